@@ -0,0 +1,136 @@
+package org.service.brandcody.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.service.brandcody.BrandCodyApplication;
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.dto.BrandTotalProjection;
+import org.service.brandcody.dto.CategoryBrandPriceDto;
+import org.service.brandcody.index.BrandTotalIndex;
+import org.service.brandcody.index.CategoryPriceIndex;
+import org.service.brandcody.repository.BrandRepository;
+import org.service.brandcody.repository.ProductRepository;
+import org.service.brandcody.service.ProductService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 최저가 조회 경로를 합성 카탈로그 위에서 측정한다.
+// 가격 스냅샷 조회, 인메모리 인덱스 계산, 리포지토리 집계 쿼리를 같은 데이터로 비교한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LowestPriceQueryBenchmark {
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    @Param({"1000", "100000", "1000000"})
+    private int products;
+
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private ProductRepository productRepository;
+    private BrandRepository brandRepository;
+    private CategoryPriceIndex categoryPriceIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BrandCodyApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench-" + products + ";MODE=MySQL",
+                        "spring.sql.init.mode=never",
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "logging.level.root=warn",
+                        "logging.level.org.hibernate.SQL=warn",
+                        "logging.level.org.hibernate.type.descriptor.sql=warn")
+                .run();
+
+        insertCatalog(context.getBean(JdbcTemplate.class));
+        categoryPriceIndex = context.getBean(CategoryPriceIndex.class);
+        categoryPriceIndex.reload();
+        context.getBean(BrandTotalIndex.class).reload();
+
+        productService = context.getBean(ProductService.class);
+        productRepository = context.getBean(ProductRepository.class);
+        brandRepository = context.getBean(BrandRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<CategoryBrandPriceDto> lowestPriceByAllCategoriesSnapshot() {
+        return productService.findLowestPriceByAllCategories();
+    }
+
+    @Benchmark
+    public List<CategoryBrandPriceDto> lowestPriceByAllCategoriesIndex() {
+        return categoryPriceIndex.findLowestPriceByAllCategories();
+    }
+
+    @Benchmark
+    public List<CategoryBrandPriceDto> repositoryLowestPriceByCategory() {
+        return productRepository.findLowestPriceByCategory();
+    }
+
+    @Benchmark
+    public List<CategoryBrandPriceDto> repositoryHighestPriceForCategory() {
+        return productRepository.findHighestPriceByCategory(Category.TOP);
+    }
+
+    @Benchmark
+    public List<BrandTotalProjection> repositoryBrandWithLowestTotalPrice() {
+        return brandRepository.findBrandWithLowestTotalPrice(PageRequest.of(0, 1));
+    }
+
+    @Benchmark
+    public List<BrandTotalProjection> repositoryAllBrandsWithTotalPrice() {
+        return brandRepository.findAllBrandsWithTotalPrice();
+    }
+
+    private void insertCatalog(JdbcTemplate jdbcTemplate) {
+        int brands = SyntheticCatalog.brandCount(products);
+        List<Object[]> brandRows = new ArrayList<>(brands);
+        for (int b = 0; b < brands; b++) {
+            brandRows.add(new Object[]{(long) b + 1, SyntheticCatalog.brandName(b)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO brands (id, name, version) VALUES (?, ?, 0)", brandRows);
+
+        int[] prices = SyntheticCatalog.prices(products);
+        List<Object[]> productRows = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < products; i++) {
+            productRows.add(new Object[]{
+                    (long) i + 1,
+                    (long) SyntheticCatalog.brandIndex(i, products) + 1,
+                    SyntheticCatalog.category(i, products).name(),
+                    prices[i]});
+            if (productRows.size() == INSERT_BATCH_SIZE || i == products - 1) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO products (id, brand_id, category, price, version) VALUES (?, ?, ?, ?, 0)", productRows);
+                productRows.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.service.brandcody.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.service.brandcody.domain.Brand;
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.domain.Product;
+import org.service.brandcody.dto.CategoryBrandPriceDto;
+import org.service.brandcody.dto.response.CategoryPriceResponse;
+import org.service.brandcody.dto.response.SingleBrandResponse;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 엔티티/응답 변환 단계의 순수 CPU 비용 측정 (DB, 스프링 컨텍스트 없음)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingResponseBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int products;
+
+    private Brand brand;
+    private List<CategoryBrandPriceDto> lowest;
+    private List<CategoryBrandPriceDto> highest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Brand> brands = SyntheticCatalog.brands(products);
+        brand = brands.get(brands.size() / 2);
+
+        List<CategoryBrandPriceDto> top = brands.stream()
+                .flatMap(b -> b.getProducts().stream())
+                .filter(p -> p.getCategory() == Category.TOP)
+                .map(p -> new CategoryBrandPriceDto(p.getCategory(), p.getBrand().getName(), p.getPrice()))
+                .sorted(Comparator.comparingInt(CategoryBrandPriceDto::getPrice))
+                .toList();
+        int min = top.getFirst().getPrice();
+        int max = top.getLast().getPrice();
+        lowest = top.stream().filter(dto -> dto.getPrice() == min).toList();
+        highest = top.stream().filter(dto -> dto.getPrice() == max).toList();
+    }
+
+    @Benchmark
+    public Integer brandTotalPrice() {
+        return brand.getTotalPrice();
+    }
+
+    @Benchmark
+    public Product brandCheapestProduct() {
+        return brand.getCheapestProductByCategory(Category.SNEAKERS);
+    }
+
+    @Benchmark
+    public SingleBrandResponse singleBrandResponse() {
+        return SingleBrandResponse.from(brand);
+    }
+
+    @Benchmark
+    public CategoryPriceResponse categoryPriceResponse() {
+        return CategoryPriceResponse.from(Category.TOP.getDisplayName(), lowest, highest);
+    }
+}
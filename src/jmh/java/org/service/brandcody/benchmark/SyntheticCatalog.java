@@ -0,0 +1,61 @@
+package org.service.brandcody.benchmark;
+
+import org.service.brandcody.domain.Brand;
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.domain.Product;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// 벤치마크용 합성 카탈로그. 브랜드당 상품 수는 고정하고 상품 수에 비례해 브랜드 수를 늘린다.
+final class SyntheticCatalog {
+    static final int PRODUCTS_PER_BRAND = 100;
+    private static final long SEED = 20240501L;
+
+    private SyntheticCatalog() {
+    }
+
+    static int brandCount(int products) {
+        return Math.max(1, products / PRODUCTS_PER_BRAND);
+    }
+
+    static String brandName(int brandIndex) {
+        return String.format("Brand-%07d", brandIndex);
+    }
+
+    // 상품 순번으로 브랜드와 카테고리를 정해 모든 브랜드가 전 카테고리를 보유하도록 한다
+    static int brandIndex(int productIndex, int products) {
+        return productIndex % brandCount(products);
+    }
+
+    static Category category(int productIndex, int products) {
+        return Category.values()[(productIndex / brandCount(products)) % Category.values().length];
+    }
+
+    static int[] prices(int products) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int[] prices = new int[products];
+        for (int i = 0; i < products; i++) {
+            prices[i] = 1_000 + random.nextInt(99) * 100;
+        }
+        return prices;
+    }
+
+    static List<Brand> brands(int products) {
+        int[] prices = prices(products);
+        List<Brand> brands = new ArrayList<>(brandCount(products));
+        for (int b = 0; b < brandCount(products); b++) {
+            Brand brand = new Brand();
+            brand.setId((long) b + 1);
+            brand.setName(brandName(b));
+            brands.add(brand);
+        }
+        for (int i = 0; i < products; i++) {
+            Product product = new Product(category(i, products), prices[i]);
+            product.setId((long) i + 1);
+            brands.get(brandIndex(i, products)).addProduct(product);
+        }
+        return brands;
+    }
+}
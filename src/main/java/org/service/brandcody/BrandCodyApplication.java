@@ -1,11 +1,18 @@
 package org.service.brandcody;
 
+import org.service.brandcody.config.ChangeLogProperties;
+import org.service.brandcody.config.PriceStreamProperties;
+import org.service.brandcody.config.PricingProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableRetry
+@EnableScheduling
+@EnableConfigurationProperties({PricingProperties.class, PriceStreamProperties.class, ChangeLogProperties.class})
 public class BrandCodyApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,24 @@
+package org.service.brandcody.cache;
+
+import org.service.brandcody.domain.Category;
+
+// 복합 캐시 키. SpEL 문자열 연결("1-TOP", "10:20") 대신 레코드를 써서 구분자가 겹치거나 타입이 섞이지 않게 한다.
+// @Cacheable의 key에서는 T(org.service.brandcody.cache.CacheKeys).brandCategory(#brandId, #category)처럼 만든다
+public final class CacheKeys {
+    private CacheKeys() {
+    }
+
+    public static BrandCategory brandCategory(Long brandId, Category category) {
+        return new BrandCategory(brandId, category);
+    }
+
+    public static Page page(long after, int size) {
+        return new Page(after, size);
+    }
+
+    public record BrandCategory(Long brandId, Category category) {
+    }
+
+    public record Page(long after, int size) {
+    }
+}
@@ -0,0 +1,78 @@
+package org.service.brandcody.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.service.brandcody.config.CacheConfig;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+// 캐시 하나는 조회 형태 하나만 담는다. 두 @Cacheable 메서드가 같은 캐시를 쓰면 기본 키(SimpleKey.EMPTY 등)가 겹쳐
+// 서로의 값을 덮어쓰거나 다른 타입을 돌려줄 수 있으므로, 기동 시점에 검사해 실패시킨다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheRegistryVerifier implements SmartInitializingSingleton {
+    private static final String BASE_PACKAGE = "org.service.brandcody.";
+
+    private final ListableBeanFactory beanFactory;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Set<Class<?>> beanTypes = new LinkedHashSet<>();
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            Class<?> type = beanFactory.getType(beanName, false);
+            if (type != null && ClassUtils.getUserClass(type).getName().startsWith(BASE_PACKAGE)) {
+                beanTypes.add(ClassUtils.getUserClass(type));
+            }
+        }
+        Map<String, List<String>> owners = cacheableMethods(beanTypes);
+        verify(owners, CacheConfig.CACHE_NAMES);
+        log.info("Verified {} cacheable methods across {} caches", owners.values().stream().mapToInt(List::size).sum(), owners.size());
+    }
+
+    // 캐시 이름별로 그 캐시를 쓰는 @Cacheable 메서드 목록
+    public static Map<String, List<String>> cacheableMethods(Collection<Class<?>> types) {
+        Map<String, List<String>> owners = new TreeMap<>();
+        for (Class<?> type : types) {
+            ReflectionUtils.doWithMethods(type, method -> {
+                Cacheable cacheable = AnnotatedElementUtils.findMergedAnnotation(method, Cacheable.class);
+                if (cacheable == null) {
+                    return;
+                }
+                for (String cacheName : cacheable.cacheNames()) {
+                    owners.computeIfAbsent(cacheName, name -> new ArrayList<>())
+                            .add(type.getSimpleName() + "." + method.getName());
+                }
+            }, ReflectionUtils.USER_DECLARED_METHODS);
+        }
+        return owners;
+    }
+
+    public static void verify(Map<String, List<String>> owners, Collection<String> registeredCaches) {
+        List<String> problems = new ArrayList<>();
+        owners.forEach((cacheName, methods) -> {
+            if (!registeredCaches.contains(cacheName)) {
+                problems.add(cacheName + " is not registered in CacheConfig.CACHE_NAMES (used by " + methods + ")");
+            }
+            if (methods.size() > 1) {
+                problems.add(cacheName + " is shared by " + methods);
+            }
+        });
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("Cache registry collision: " + String.join("; ", problems));
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package org.service.brandcody.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.service.brandcody.config.CacheConfig;
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.event.BrandChangedEvent;
+import org.service.brandcody.event.CatalogChangedEvent;
+import org.service.brandcody.event.ChangeType;
+import org.service.brandcody.event.ProductChangedEvent;
+import org.service.brandcody.event.ProductsImportedEvent;
+import org.service.brandcody.index.BrandTotalIndex;
+import org.service.brandcody.index.CategoryPriceIndex;
+import org.service.brandcody.index.PriceEntry;
+import org.service.brandcody.index.PricingSnapshotHolder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// 커밋된 변경 묶음이 건드리는 캐시 키만 골라 무효화하고, 가격 인덱스 갱신과 가격 스냅샷 교체를 요청한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogCacheInvalidator {
+    private final CacheManager cacheManager;
+    private final CategoryPriceIndex categoryPriceIndex;
+    private final BrandTotalIndex brandTotalIndex;
+    private final PricingSnapshotHolder pricingSnapshotHolder;
+
+    public void apply(List<CatalogChangedEvent> changes) {
+        InvalidationPass pass = new InvalidationPass();
+        for (CatalogChangedEvent change : changes) {
+            switch (change) {
+                case ProductChangedEvent product -> collect(product, pass);
+                case BrandChangedEvent brand -> collect(brand, pass);
+                case ProductsImportedEvent imported -> collect(imported, pass);
+            }
+        }
+
+        pass.clears.forEach(this::clear);
+        pass.evictions.forEach(key -> evict(key.cacheName(), key.key()));
+        if (pass.reloadIndexes || !pass.indexChanges.isEmpty()) {
+            pricingSnapshotHolder.apply(pass.categories, pass.indexChanges, pass.reloadIndexes);
+        }
+        log.debug("Applied {} catalog changes with {} key evictions", changes.size(), pass.evictions.size());
+    }
+
+    private void collect(ProductChangedEvent change, InvalidationPass pass) {
+        Long brandId = change.brandId();
+        Category category = change.category();
+        pass.evict(CacheConfig.PRODUCT_CACHE, SimpleKey.EMPTY);
+        pass.evict(CacheConfig.PRODUCT_BY_ID_CACHE, change.productId());
+        pass.evict(CacheConfig.PRODUCTS_BY_BRAND_CACHE, brandId);
+        pass.evict(CacheConfig.PRODUCT_BY_BRAND_CATEGORY_CACHE, CacheKeys.brandCategory(brandId, category));
+        pass.evict(CacheConfig.CHEAPEST_PRODUCT_BY_BRAND_CATEGORY_CACHE, CacheKeys.brandCategory(brandId, category));
+        // 상품이 어느 페이지에 속하는지는 페이지 크기마다 다르므로 페이지 캐시는 통째로 비운다
+        pass.clear(CacheConfig.PRODUCT_PAGE_CACHE);
+
+        pass.categories.add(category);
+        if (change.type() == ChangeType.DELETED) {
+            pass.indexChanges.add(() -> {
+                categoryPriceIndex.remove(change.productId(), change.version());
+                brandTotalIndex.remove(change.productId(), change.version());
+            });
+        } else {
+            PriceEntry entry = new PriceEntry(
+                    change.productId(), brandId, change.brandName(), category, change.price(), change.version());
+            pass.indexChanges.add(() -> {
+                categoryPriceIndex.put(entry);
+                brandTotalIndex.put(entry);
+            });
+        }
+    }
+
+    private void collect(BrandChangedEvent change, InvalidationPass pass) {
+        pass.evict(CacheConfig.BRAND_CACHE, SimpleKey.EMPTY);
+        pass.clear(CacheConfig.BRAND_PAGE_CACHE);
+        if (change.type() == ChangeType.CREATED) {
+            return;
+        }
+
+        Long brandId = change.brandId();
+        pass.evict(CacheConfig.BRAND_BY_ID_CACHE, brandId);
+        pass.evict(CacheConfig.BRAND_BY_NAME_CACHE, change.previousName());
+        if (change.brandName() != null) {
+            pass.evict(CacheConfig.BRAND_BY_NAME_CACHE, change.brandName());
+        }
+        // 캐시된 상품 읽기 모델이 브랜드명을 함께 들고 있으므로 이 브랜드 상품이 담긴 캐시를 모두 비운다
+        pass.evict(CacheConfig.PRODUCT_CACHE, SimpleKey.EMPTY);
+        pass.evict(CacheConfig.PRODUCTS_BY_BRAND_CACHE, brandId);
+        pass.clear(CacheConfig.PRODUCT_PAGE_CACHE);
+        for (Category category : Category.values()) {
+            pass.evict(CacheConfig.PRODUCT_BY_BRAND_CATEGORY_CACHE, CacheKeys.brandCategory(brandId, category));
+            pass.evict(CacheConfig.CHEAPEST_PRODUCT_BY_BRAND_CATEGORY_CACHE, CacheKeys.brandCategory(brandId, category));
+        }
+        // 인덱스 갱신 전이므로 아직 이 브랜드 상품을 들고 있다. 적재 전이라 알 수 없으면 단건 캐시를 통째로 비운다
+        categoryPriceIndex.findProductIdsByBrand(brandId).ifPresentOrElse(
+                productIds -> productIds.forEach(productId -> pass.evict(CacheConfig.PRODUCT_BY_ID_CACHE, productId)),
+                () -> pass.clear(CacheConfig.PRODUCT_BY_ID_CACHE));
+
+        pass.categories.addAll(EnumSet.allOf(Category.class));
+        if (change.type() == ChangeType.DELETED) {
+            pass.indexChanges.add(() -> {
+                categoryPriceIndex.removeBrand(brandId);
+                brandTotalIndex.removeBrand(brandId);
+            });
+        } else {
+            pass.indexChanges.add(() -> {
+                categoryPriceIndex.renameBrand(brandId, change.brandName());
+                brandTotalIndex.renameBrand(brandId, change.brandName());
+            });
+        }
+    }
+
+    private void collect(ProductsImportedEvent change, InvalidationPass pass) {
+        pass.evict(CacheConfig.PRODUCT_CACHE, SimpleKey.EMPTY);
+        pass.evict(CacheConfig.BRAND_CACHE, SimpleKey.EMPTY);
+        pass.clear(CacheConfig.PRODUCT_PAGE_CACHE);
+        for (Long brandId : change.brandIds()) {
+            pass.evict(CacheConfig.PRODUCTS_BY_BRAND_CACHE, brandId);
+            for (Category category : change.categories()) {
+                pass.evict(CacheConfig.PRODUCT_BY_BRAND_CATEGORY_CACHE, CacheKeys.brandCategory(brandId, category));
+                pass.evict(CacheConfig.CHEAPEST_PRODUCT_BY_BRAND_CATEGORY_CACHE, CacheKeys.brandCategory(brandId, category));
+            }
+        }
+
+        // 상품별로 인덱스를 갱신하는 대신 한 번에 다시 적재해 새 스냅샷을 만든다
+        pass.categories.addAll(change.categories());
+        pass.reloadIndexes = true;
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private record CacheKey(String cacheName, Object key) {
+    }
+
+    // 한 트랜잭션의 변경을 모아 중복 키는 한 번만 비우고 인덱스 비교도 한 번만 수행한다
+    private static final class InvalidationPass {
+        private final Set<CacheKey> evictions = new LinkedHashSet<>();
+        private final Set<String> clears = new LinkedHashSet<>();
+        private final Set<Category> categories = EnumSet.noneOf(Category.class);
+        private final List<Runnable> indexChanges = new ArrayList<>();
+        private boolean reloadIndexes;
+
+        private void evict(String cacheName, Object key) {
+            evictions.add(new CacheKey(cacheName, key));
+        }
+
+        private void clear(String cacheName) {
+            clears.add(cacheName);
+        }
+    }
+}
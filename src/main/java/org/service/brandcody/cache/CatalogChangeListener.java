@@ -0,0 +1,61 @@
+package org.service.brandcody.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.service.brandcody.event.CatalogChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 트랜잭션 안에서 발행된 변경 이벤트를 모아 두었다가 커밋 이후 한 번에 무효화한다.
+// 롤백되거나 @Retryable로 재시도되는 트랜잭션의 이벤트는 버려진다.
+@Component
+@RequiredArgsConstructor
+public class CatalogChangeListener {
+    private final CatalogCacheInvalidator catalogCacheInvalidator;
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            catalogCacheInvalidator.apply(List.of(event));
+            return;
+        }
+        currentBatch().add(event);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<CatalogChangedEvent> currentBatch() {
+        List<CatalogChangedEvent> batch = (List<CatalogChangedEvent>) TransactionSynchronizationManager.getResource(this);
+        if (batch != null) {
+            return batch;
+        }
+
+        List<CatalogChangedEvent> created = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResource(CatalogChangeListener.this);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(CatalogChangeListener.this, created);
+            }
+
+            @Override
+            public void afterCommit() {
+                catalogCacheInvalidator.apply(created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(CatalogChangeListener.this);
+            }
+        });
+        return created;
+    }
+}
@@ -0,0 +1,112 @@
+package org.service.brandcody.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// @Cacheable(sync = true) 조회를 감싸 같은 키의 동시 미스가 하나의 계산을 기다린 횟수를 센다.
+// 키별 단일 계산 자체는 Caffeine의 원자적 get(key, loader)가 보장한다.
+public class CoalescingCache implements Cache {
+    private final Cache delegate;
+    private final Map<Object, Boolean> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public CoalescingCache(Cache delegate) {
+        this.delegate = delegate;
+    }
+
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        boolean joined = inFlight.containsKey(key);
+        AtomicBoolean loadedHere = new AtomicBoolean();
+        T value = delegate.get(key, () -> {
+            loadedHere.set(true);
+            loads.increment();
+            inFlight.put(key, Boolean.TRUE);
+            try {
+                return valueLoader.call();
+            } finally {
+                inFlight.remove(key);
+            }
+        });
+        if (joined && !loadedHere.get()) {
+            coalesced.increment();
+        }
+        return value;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+}
@@ -0,0 +1,30 @@
+package org.service.brandcody.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import org.service.brandcody.dto.CursorPage;
+
+import java.util.Collection;
+
+// 캐시 값의 대략적인 힙 사용량(바이트). 목록 값은 원소 수에 비례해 무게를 매긴다.
+public class EstimatedSizeWeigher implements Weigher<Object, Object> {
+    private static final int COLLECTION_OVERHEAD_BYTES = 64;
+
+    private final long entryBytes;
+
+    public EstimatedSizeWeigher(long entryBytes) {
+        if (entryBytes <= 0) {
+            throw new IllegalArgumentException("Entry weight must be positive: " + entryBytes);
+        }
+        this.entryBytes = entryBytes;
+    }
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long weight = switch (value) {
+            case Collection<?> collection -> COLLECTION_OVERHEAD_BYTES + collection.size() * entryBytes;
+            case CursorPage<?> page -> COLLECTION_OVERHEAD_BYTES + page.items().size() * entryBytes;
+            default -> entryBytes;
+        };
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+}
@@ -1,17 +1,24 @@
 package org.service.brandcody.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.service.brandcody.cache.CoalescingCache;
+import org.service.brandcody.cache.EstimatedSizeWeigher;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.Arrays;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
+import java.util.Set;
 
+@Slf4j
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CachePolicyProperties.class)
 public class CacheConfig {
 
     public static final String BRAND_CACHE = "brandCache";
@@ -21,32 +28,81 @@ public class CacheConfig {
     public static final String PRODUCT_BY_ID_CACHE = "productByIdCache";
     public static final String PRODUCTS_BY_BRAND_CACHE = "productsByBrandCache";
     public static final String PRODUCT_BY_BRAND_CATEGORY_CACHE = "productByBrandCategoryCache";
-    public static final String LOWEST_PRICE_BY_CATEGORY_CACHE = "lowestPriceByCategoryCache";
-    public static final String HIGHEST_PRICE_BY_CATEGORY_CACHE = "highestPriceByCategoryCache";
-    public static final String LOWEST_PRICE_BRAND_CACHE = "lowestPriceBrandCache";
+    public static final String CHEAPEST_PRODUCT_BY_BRAND_CATEGORY_CACHE = "cheapestProductByBrandCategoryCache";
+    public static final String PRODUCT_PAGE_CACHE = "productPageCache";
+    public static final String BRAND_PAGE_CACHE = "brandPageCache";
+
+    // 조회 형태마다 전용 캐시를 둔다. 한 캐시를 두 @Cacheable 메서드가 쓰면 CacheRegistryVerifier가 기동을 막는다
+    public static final List<String> CACHE_NAMES = List.of(
+        BRAND_CACHE, 
+        BRAND_BY_ID_CACHE, 
+        BRAND_BY_NAME_CACHE,
+        PRODUCT_CACHE, 
+        PRODUCT_BY_ID_CACHE, 
+        PRODUCTS_BY_BRAND_CACHE,
+        PRODUCT_BY_BRAND_CATEGORY_CACHE,
+        CHEAPEST_PRODUCT_BY_BRAND_CATEGORY_CACHE,
+        PRODUCT_PAGE_CACHE,
+        BRAND_PAGE_CACHE
+    );
+
+    // 동시 미스를 하나의 계산으로 합치는 조회 캐시 (@Cacheable(sync = true)와 함께 사용)
+    // 가격 집계는 캐시 대신 PricingSnapshotHolder의 불변 스냅샷에서 읽는다
+    public static final Set<String> COALESCING_CACHES = Set.of(
+        BRAND_CACHE,
+        BRAND_PAGE_CACHE,
+        PRODUCT_BY_ID_CACHE,
+        PRODUCT_BY_BRAND_CATEGORY_CACHE,
+        CHEAPEST_PRODUCT_BY_BRAND_CATEGORY_CACHE,
+        PRODUCT_PAGE_CACHE
+    );
+
+    private static final long DEFAULT_ENTRY_BYTES = 256;
 
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-
-        cacheManager.setCacheNames(Arrays.asList(
-            BRAND_CACHE, 
-            BRAND_BY_ID_CACHE, 
-            BRAND_BY_NAME_CACHE,
-            PRODUCT_CACHE, 
-            PRODUCT_BY_ID_CACHE, 
-            PRODUCTS_BY_BRAND_CACHE,
-            PRODUCT_BY_BRAND_CATEGORY_CACHE,
-            LOWEST_PRICE_BY_CATEGORY_CACHE,
-            HIGHEST_PRICE_BY_CATEGORY_CACHE,
-            LOWEST_PRICE_BRAND_CACHE
-        ));
-
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-            .expireAfterWrite(5, TimeUnit.MINUTES)
-            .maximumSize(1000)
-            .recordStats());
+    public CacheManager cacheManager(CachePolicyProperties properties) {
+        for (String configured : properties.getCaches().keySet()) {
+            if (!CACHE_NAMES.contains(configured)) {
+                throw new IllegalArgumentException("Unknown cache in brandcody.cache.caches: " + configured);
+            }
+        }
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                Cache adapted = super.adaptCaffeineCache(name, cache);
+                return COALESCING_CACHES.contains(name) ? new CoalescingCache(adapted) : adapted;
+            }
+        };
+        cacheManager.setCacheNames(CACHE_NAMES);
+
+        // 캐시마다 application.yml의 정책으로 따로 생성한다
+        for (String cacheName : CACHE_NAMES) {
+            CachePolicyProperties.Policy policy = properties.policyFor(cacheName);
+            cacheManager.registerCustomCache(cacheName, caffeine(cacheName, policy).build());
+        }
         
         return cacheManager;
     }
-}
\ No newline at end of file
+
+    private static Caffeine<Object, Object> caffeine(String cacheName, CachePolicyProperties.Policy policy) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (policy.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(policy.getExpireAfterWrite());
+        }
+        if (policy.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(policy.getExpireAfterAccess());
+        }
+        if (policy.isWeighted()) {
+            long entryBytes = policy.getEntryWeight() != null ? policy.getEntryWeight().toBytes() : DEFAULT_ENTRY_BYTES;
+            builder.maximumWeight(policy.getMaximumWeight().toBytes())
+                    .weigher(new EstimatedSizeWeigher(entryBytes));
+        } else if (policy.getMaximumSize() != null) {
+            builder.maximumSize(policy.getMaximumSize());
+        }
+        log.debug("Configured cache {} with expireAfterWrite={}, expireAfterAccess={}, maximumSize={}, maximumWeight={}",
+                cacheName, policy.getExpireAfterWrite(), policy.getExpireAfterAccess(),
+                policy.getMaximumSize(), policy.getMaximumWeight());
+        return builder;
+    }
+}
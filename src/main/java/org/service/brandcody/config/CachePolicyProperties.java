@@ -0,0 +1,55 @@
+package org.service.brandcody.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// application.yml의 brandcody.cache 설정. 캐시별 정책이 없는 항목은 defaults 값을 따른다.
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "brandcody.cache")
+public class CachePolicyProperties {
+    private Policy defaults = new Policy();
+    private Map<String, Policy> caches = new LinkedHashMap<>();
+
+    public Policy policyFor(String cacheName) {
+        Policy policy = caches.get(cacheName);
+        return policy == null ? defaults : policy.withDefaults(defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+        private Duration expireAfterWrite;
+        private Duration expireAfterAccess;
+        private Long maximumSize;
+        // 목록 값 캐시는 항목 수 대신 추정 바이트로 제한한다
+        private DataSize maximumWeight;
+        private DataSize entryWeight;
+
+        public boolean isWeighted() {
+            return maximumWeight != null;
+        }
+
+        private Policy withDefaults(Policy defaults) {
+            Policy merged = new Policy();
+            merged.expireAfterWrite = expireAfterWrite != null ? expireAfterWrite : defaults.expireAfterWrite;
+            merged.expireAfterAccess = expireAfterAccess != null ? expireAfterAccess : defaults.expireAfterAccess;
+            merged.entryWeight = entryWeight != null ? entryWeight : defaults.entryWeight;
+            // 크기 제한은 항목 수와 바이트 중 하나만 쓸 수 있으므로 캐시에 지정된 쪽을 통째로 따른다
+            if (maximumSize != null || maximumWeight != null) {
+                merged.maximumSize = maximumSize;
+                merged.maximumWeight = maximumWeight;
+            } else {
+                merged.maximumSize = defaults.maximumSize;
+                merged.maximumWeight = defaults.maximumWeight;
+            }
+            return merged;
+        }
+    }
+}
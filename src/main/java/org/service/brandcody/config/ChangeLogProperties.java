@@ -0,0 +1,18 @@
+package org.service.brandcody.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// application.yml의 brandcody.changes 설정
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "brandcody.changes")
+public class ChangeLogProperties {
+    // 변경 기록 보존 기간. 이보다 오래 동기화하지 않은 클라이언트는 410을 받고 전체를 다시 받아야 한다
+    private Duration retention = Duration.ofDays(7);
+    // 보존 기간이 지난 기록을 지우는 주기
+    private Duration purgeInterval = Duration.ofHours(1);
+}
@@ -0,0 +1,18 @@
+package org.service.brandcody.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// application.yml의 brandcody.price-stream 설정
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "brandcody.price-stream")
+public class PriceStreamProperties {
+    // 구독자별로 아직 보내지 못한 메시지를 담는 최대 개수. 같은 키의 메시지는 최신 값으로 합쳐지고, 넘치면 오래된 것부터 버린다
+    private int bufferSize = 256;
+    // 연결 유지 시간. 지나면 스트림을 닫고 클라이언트(EventSource)가 다시 연결한다
+    private Duration timeout = Duration.ofMinutes(30);
+}
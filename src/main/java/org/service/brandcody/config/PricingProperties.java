@@ -0,0 +1,22 @@
+package org.service.brandcody.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// application.yml의 brandcody.pricing 설정
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "brandcody.pricing")
+public class PricingProperties {
+    // true면 If-Match 없는 가격 수정을 조회 없이 단일 UPDATE로 처리한다 (마지막 요청 우선, 재시도 없음)
+    private boolean atomicUpdates;
+    // 가격 조회 응답의 Cache-Control max-age. 0이면 매번 ETag로 재검증한다
+    private Duration responseMaxAge = Duration.ZERO;
+    // true면 직렬화해 둔 가격 조회 응답의 gzip 본문도 함께 만들어 Accept-Encoding: gzip 요청에 내려준다
+    private boolean gzipResponses;
+    // 카테고리별 상위 브랜드 조회(top?k=)에서 허용하는 최대 k. 가격 스냅샷은 카테고리마다 이 개수만큼만 유지한다
+    private int topOffersMax = 20;
+}
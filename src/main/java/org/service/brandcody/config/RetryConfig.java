@@ -0,0 +1,56 @@
+package org.service.brandcody.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.service.brandcody.metrics.RetryMetricsListener;
+import org.service.brandcody.retry.BudgetedRetryPolicy;
+import org.service.brandcody.retry.RetryBudget;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.backoff.ExponentialRandomBackOffPolicy;
+import org.springframework.retry.interceptor.RetryInterceptorBuilder;
+import org.springframework.retry.interceptor.RetryOperationsInterceptor;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+
+import java.util.Map;
+
+// 낙관적 락 충돌 재시도 정책. 모든 @Retryable 메서드가 이 인터셉터를 공유한다.
+// 백오프에 지터를 넣어 충돌한 요청들이 같은 시점에 다시 부딪히지 않게 하고,
+// 전역 재시도 예산이 바닥나면 재시도 없이 바로 409로 돌려보낸다.
+@Configuration
+@EnableConfigurationProperties(RetryPolicyProperties.class)
+public class RetryConfig {
+    public static final String OPTIMISTIC_LOCK_RETRY = "optimisticLockRetryInterceptor";
+
+    @Bean
+    public RetryBudget retryBudget(RetryPolicyProperties properties, MeterRegistry meterRegistry) {
+        RetryPolicyProperties.Budget budget = properties.getBudget();
+        RetryBudget retryBudget = new RetryBudget(budget.getCapacity(), budget.getRefillPerSecond());
+        Gauge.builder("brandcody.retry.budget.available", retryBudget, RetryBudget::availableTokens)
+                .description("Retries currently allowed by the process-wide retry budget")
+                .register(meterRegistry);
+        return retryBudget;
+    }
+
+    @Bean(OPTIMISTIC_LOCK_RETRY)
+    public RetryOperationsInterceptor optimisticLockRetryInterceptor(RetryPolicyProperties properties,
+                                                                     RetryBudget retryBudget,
+                                                                     RetryMetricsListener retryMetricsListener) {
+        SimpleRetryPolicy retryPolicy = new SimpleRetryPolicy(properties.getMaxAttempts(),
+                Map.<Class<? extends Throwable>, Boolean>of(ObjectOptimisticLockingFailureException.class, true));
+
+        // 대기 시간은 [interval, interval * multiplier] 범위에서 무작위로 정해진다
+        ExponentialRandomBackOffPolicy backOffPolicy = new ExponentialRandomBackOffPolicy();
+        backOffPolicy.setInitialInterval(properties.getInitialInterval().toMillis());
+        backOffPolicy.setMultiplier(properties.getMultiplier());
+        backOffPolicy.setMaxInterval(properties.getMaxInterval().toMillis());
+
+        return RetryInterceptorBuilder.stateless()
+                .retryPolicy(new BudgetedRetryPolicy(retryPolicy, retryBudget))
+                .backOffPolicy(backOffPolicy)
+                .listeners(retryMetricsListener)
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package org.service.brandcody.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// application.yml의 brandcody.retry 설정. 낙관적 락 재시도의 백오프와 프로세스 전체 재시도 예산.
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "brandcody.retry")
+public class RetryPolicyProperties {
+    // 첫 시도를 포함한 최대 시도 횟수
+    private int maxAttempts = 3;
+    private Duration initialInterval = Duration.ofMillis(100);
+    private double multiplier = 2.0;
+    private Duration maxInterval = Duration.ofSeconds(1);
+    private Budget budget = new Budget();
+
+    @Getter
+    @Setter
+    public static class Budget {
+        // 한 번에 몰려도 허용하는 재시도 수
+        private int capacity = 100;
+        // 초당 다시 채워지는 재시도 수 (지속 가능한 재시도율)
+        private double refillPerSecond = 20;
+    }
+}
@@ -1,5 +1,6 @@
 package org.service.brandcody.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -10,7 +11,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.service.brandcody.domain.Brand;
-import org.service.brandcody.dto.BrandTotalProjection;
+import org.service.brandcody.dto.BrandExclusions;
+import org.service.brandcody.dto.CursorPage;
 import org.service.brandcody.dto.request.BrandRequest;
 import org.service.brandcody.dto.response.BrandResponse;
 import org.service.brandcody.dto.response.SingleBrandResponse;
@@ -19,6 +21,8 @@ import org.service.brandcody.service.BrandService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -29,6 +33,8 @@ import java.util.stream.Collectors;
 @Tag(name = "브랜드 API", description = "브랜드 정보 조회 및 관리를 위한 API")
 public class BrandController {
     private final BrandService brandService;
+    private final ObjectMapper objectMapper;
+    private final PricingConditionalResponses pricingConditionalResponses;
 
     @Operation(summary = "모든 브랜드 조회", description = "시스템에 등록된 모든 브랜드 정보를 조회합니다.")
     @ApiResponses(value = {
@@ -44,6 +50,31 @@ public class BrandController {
         return ResponseEntity.ok(brands);
     }
 
+    @Operation(summary = "브랜드 페이지 조회",
+            description = "ID 순으로 after 다음부터 size건의 브랜드를 조회합니다. 응답의 nextCursor를 다음 요청의 after로 전달합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "브랜드 페이지 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 페이지 크기", 
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(params = "size")
+    public ResponseEntity<CursorPage<BrandResponse>> getBrandPage(
+            @Parameter(description = "이전 페이지의 마지막 브랜드 ID") @RequestParam(defaultValue = "0") long after,
+            @Parameter(description = "페이지 크기 (1~1000)", required = true) @RequestParam int size) {
+        return ResponseEntity.ok(brandService.getBrandPage(after, size).map(BrandResponse::from));
+    }
+
+    @Operation(summary = "전체 브랜드 스트리밍 조회",
+            description = "모든 브랜드를 ID 순으로 조회하면서 바로 JSON 배열로 내려줍니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "브랜드 스트리밍 시작")
+    })
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamBrands() {
+        return JsonArrayStreams.<BrandResponse>of(objectMapper,
+                sink -> brandService.streamBrands(view -> sink.accept(BrandResponse.from(view))));
+    }
+
     @Operation(summary = "브랜드 상세 조회", description = "특정 ID의 브랜드 정보를 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "브랜드 조회 성공"),
@@ -53,8 +84,7 @@ public class BrandController {
     @GetMapping("/{id}")
     public ResponseEntity<BrandResponse> getBrandById(
             @Parameter(description = "브랜드 ID", required = true) @PathVariable Long id) {
-        Brand brand = brandService.getBrandById(id);
-        return ResponseEntity.ok(BrandResponse.from(brand));
+        return ResponseEntity.ok(BrandResponse.from(brandService.getBrandById(id)));
     }
 
     @Operation(summary = "새 브랜드 등록", description = "새로운 브랜드를 시스템에 등록합니다.")
@@ -104,15 +134,39 @@ public class BrandController {
     }
 
     @Operation(summary = "최저가 브랜드 조회", 
-            description = "단일 브랜드로 모든 카테고리 상품을 구매할 때 최저가격인 브랜드와 총액을 조회합니다.")
+            description = "단일 브랜드로 모든 카테고리 상품을 구매할 때 최저가격인 브랜드와 총액을 조회합니다. If-None-Match가 현재 ETag와 같으면 304를 반환합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "최저가 브랜드 조회 성공"),
+            @ApiResponse(responseCode = "200", description = "최저가 브랜드 조회 성공",
+                    content = @Content(schema = @Schema(implementation = SingleBrandResponse.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
             @ApiResponse(responseCode = "404", description = "조건에 맞는 브랜드가 없음", 
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/lowest-price")
-    public ResponseEntity<SingleBrandResponse> getBrandWithLowestTotalPrice() {
-        BrandTotalProjection projection = brandService.findBrandWithLowestTotalPrice();
-        return ResponseEntity.ok(projection.toResponse());
+    public ResponseEntity<byte[]> getBrandWithLowestTotalPrice(WebRequest request) {
+        return pricingConditionalResponses.respond(request, "brands/lowest-price",
+                snapshot -> snapshot.lowestTotalBrand().isPresent(),
+                () -> SingleBrandResponse.from(brandService.findBrandWithLowestTotalPrice()));
+    }
+
+    @Operation(summary = "브랜드 제외 최저가 브랜드 조회",
+            description = "지정한 브랜드를 제외하고, 단일 브랜드로 모든 카테고리 상품을 구매할 때 최저가격인 브랜드와 총액을 조회합니다. If-None-Match가 현재 ETag와 같으면 304를 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "최저가 브랜드 조회 성공",
+                    content = @Content(schema = @Schema(implementation = SingleBrandResponse.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
+            @ApiResponse(responseCode = "400", description = "제외 브랜드 수 초과",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "제외 후 조건에 맞는 브랜드가 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(value = "/lowest-price", params = "excludeBrands")
+    public ResponseEntity<byte[]> getBrandWithLowestTotalPriceExcluding(
+            @Parameter(description = "제외할 브랜드명 (쉼표로 구분, 최대 100개)", required = true) @RequestParam List<String> excludeBrands,
+            WebRequest request) {
+        BrandExclusions exclusions = BrandExclusions.of(excludeBrands);
+        return pricingConditionalResponses.respondUnretained(request,
+                snapshot -> snapshot.lowestTotalBrandExcluding(exclusions).isPresent(),
+                () -> SingleBrandResponse.from(brandService.findBrandWithLowestTotalPriceExcluding(exclusions)));
     }
 }
\ No newline at end of file
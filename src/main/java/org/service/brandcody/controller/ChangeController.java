@@ -0,0 +1,44 @@
+package org.service.brandcody.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.service.brandcody.dto.response.CatalogChangesResponse;
+import org.service.brandcody.exception.ErrorResponse;
+import org.service.brandcody.service.CatalogChangeLog;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/changes")
+@Tag(name = "변경 동기화 API", description = "카탈로그 변경 내역을 시퀀스 이후부터 조회하는 API")
+public class ChangeController {
+    private final CatalogChangeLog catalogChangeLog;
+
+    @Operation(summary = "변경 내역 조회",
+            description = "since 시퀀스 이후에 커밋된 상품/브랜드 변경을 순서대로 최대 limit건 조회합니다. "
+                    + "응답의 nextSince를 다음 요청의 since로 전달하고, 처음 동기화할 때는 전체 조회 후 latestSequence부터 시작합니다. "
+                    + "DELETED는 삭제 표시이며 브랜드 삭제는 그 브랜드의 모든 상품 삭제를 뜻합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "변경 내역 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 조회 건수",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "410", description = "보존 기간이 지나 since 이후 변경 일부가 삭제됨 (전체 재조회 필요)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping
+    public ResponseEntity<CatalogChangesResponse> getChanges(
+            @Parameter(description = "마지막으로 반영한 변경 시퀀스") @RequestParam(defaultValue = "0") long since,
+            @Parameter(description = "최대 조회 건수 (1~1000)") @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(catalogChangeLog.findChanges(since, limit));
+    }
+}
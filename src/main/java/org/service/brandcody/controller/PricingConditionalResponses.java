@@ -0,0 +1,182 @@
+package org.service.brandcody.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.service.brandcody.config.PricingProperties;
+import org.service.brandcody.index.PricingSnapshot;
+import org.service.brandcody.index.PricingSnapshotHolder;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+// 가격 조회 응답의 조건부 GET과 직렬화 결과 재사용. ETag는 가격 스냅샷 버전(카탈로그 가격 변경마다 증가)이므로
+// If-None-Match가 일치하면 서비스 호출과 직렬화 없이 304를 돌려주고, 아니면 같은 버전에서 만들어 둔 JSON 바이트를 그대로 쓴다.
+// gzip 본문은 바이트가 다른 별도 표현이므로 같은 버전이라도 "-gz"가 붙은 다른 ETag를 쓴다.
+@Slf4j
+@Component
+class PricingConditionalResponses {
+    private final PricingSnapshotHolder pricingSnapshotHolder;
+    private final ObjectMapper objectMapper;
+    private final CacheControl cacheControl;
+    private final boolean gzipResponses;
+    // 재시작 후 스냅샷 버전이 다시 1부터 시작해도 이전 프로세스의 ETag와 겹치지 않게 한다
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    // 스냅샷 버전이 바뀌면 통째로 교체되므로 데이터와 함께 무효화된다
+    private volatile RenderedBodies rendered = new RenderedBodies(-1, new ConcurrentHashMap<>());
+
+    PricingConditionalResponses(PricingSnapshotHolder pricingSnapshotHolder,
+                                ObjectMapper objectMapper,
+                                PricingProperties pricingProperties) {
+        this.pricingSnapshotHolder = pricingSnapshotHolder;
+        this.objectMapper = objectMapper;
+        this.cacheControl = CacheControl.maxAge(pricingProperties.getResponseMaxAge()).cachePublic().mustRevalidate();
+        this.gzipResponses = pricingProperties.isGzipResponses();
+    }
+
+    // 버전을 본문보다 먼저 읽는다. 사이에 쓰기가 끼면 본문이 더 새 것일 뿐이라 다음 요청에서 200으로 다시 받는다.
+    // key는 같은 스냅샷 버전 안에서 본문을 구분하는 값이다 (엔드포인트 + 경로 변수)
+    ResponseEntity<byte[]> respond(WebRequest request, String key, Supplier<?> body) {
+        return respond(request, key, snapshot -> true, body, true);
+    }
+
+    // 조건에 맞는 대상이 없으면 404로 끝나는 응답. present는 ETag와 같은 스냅샷에서 본문 없이 대상이 있는지만 확인하며,
+    // 없으면 ETag가 일치해도 304 대신 본문을 만들어 그 오류로 끝낸다
+    ResponseEntity<byte[]> respond(WebRequest request, String key, Predicate<PricingSnapshot> present, Supplier<?> body) {
+        return respond(request, key, present, body, true);
+    }
+
+    // 제외 브랜드처럼 파라미터 조합이 끝없이 늘 수 있는 응답. ETag와 304는 같지만 직렬화 결과를 버전별로 쌓아 두지 않는다
+    ResponseEntity<byte[]> respondUnretained(WebRequest request, Supplier<?> body) {
+        return respond(request, null, snapshot -> true, body, false);
+    }
+
+    ResponseEntity<byte[]> respondUnretained(WebRequest request, Predicate<PricingSnapshot> present, Supplier<?> body) {
+        return respond(request, null, present, body, false);
+    }
+
+    private ResponseEntity<byte[]> respond(WebRequest request, String key, Predicate<PricingSnapshot> present,
+                                           Supplier<?> body, boolean retain) {
+        PricingSnapshot snapshot = pricingSnapshotHolder.current();
+        long version = snapshot.version();
+        String identityETag = "\"" + epoch + "." + version + "\"";
+        String gzipETag = "\"" + epoch + "." + version + "-gz\"";
+        boolean gzip = gzipResponses && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String eTag = gzip ? gzipETag : identityETag;
+
+        // 두 표현의 ETag 모두 같은 스냅샷 버전을 가리키므로 어느 쪽이 와도 304로 답한다
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), identityETag, gzipETag) && present.test(snapshot)) {
+            log.debug("Price response not modified for ETag {}", eTag);
+            ResponseEntity.BodyBuilder notModified = ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(cacheControl);
+            if (gzipResponses) {
+                notModified.varyBy(HttpHeaders.ACCEPT_ENCODING);
+            }
+            return notModified.build();
+        }
+
+        SerializedBody serialized = retain ? serialized(version, key, body) : serialize(body.get());
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (!gzipResponses) {
+            return builder.body(serialized.json());
+        }
+        builder.varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(serialized.gzip());
+        }
+        return builder.body(serialized.json());
+    }
+
+    private SerializedBody serialized(long version, String key, Supplier<?> body) {
+        RenderedBodies current = rendered;
+        if (current.version() < version) {
+            current = new RenderedBodies(version, new ConcurrentHashMap<>());
+            rendered = current;
+        }
+        SerializedBody cached = current.version() == version ? current.bodies().get(key) : null;
+        if (cached != null) {
+            return cached;
+        }
+
+        SerializedBody serialized = serialize(body.get());
+        // 만드는 사이 스냅샷이 바뀌었으면 본문이 버전과 어긋날 수 있으므로 이번 응답에만 쓰고 저장하지 않는다
+        if (current.version() == version && pricingSnapshotHolder.current().version() == version) {
+            SerializedBody existing = current.bodies().putIfAbsent(key, serialized);
+            return existing != null ? existing : serialized;
+        }
+        return serialized;
+    }
+
+    private SerializedBody serialize(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            return new SerializedBody(json, gzipResponses ? gzip(json) : null);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    // If-None-Match는 약한 비교를 쓰므로 W/ 접두사는 무시한다
+    private static boolean matches(String ifNoneMatch, String identityETag, String gzipETag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(identityETag) || tag.equals(gzipETag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // gzip;q=0처럼 명시적으로 거부한 경우는 제외한다
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private record RenderedBodies(long version, ConcurrentMap<String, SerializedBody> bodies) {
+    }
+
+    private record SerializedBody(byte[] json, byte[] gzip) {
+    }
+}
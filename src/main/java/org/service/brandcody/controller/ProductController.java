@@ -1,5 +1,6 @@
 package org.service.brandcody.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,19 +10,39 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.service.brandcody.config.PricingProperties;
 import org.service.brandcody.domain.Category;
 import org.service.brandcody.domain.Product;
+import org.service.brandcody.dto.BrandExclusions;
 import org.service.brandcody.dto.CategoryBrandPriceDto;
+import org.service.brandcody.dto.CategoryPriceRange;
+import org.service.brandcody.dto.CursorPage;
+import org.service.brandcody.dto.ProductView;
+import org.service.brandcody.dto.request.BulkPriceUpdateRequest;
 import org.service.brandcody.dto.request.ProductRequest;
+import org.service.brandcody.dto.response.BulkPriceUpdateResponse;
 import org.service.brandcody.dto.response.CategoryPriceResponse;
+import org.service.brandcody.dto.response.CategoryTopOffersResponse;
 import org.service.brandcody.dto.response.LowestPriceResponse;
+import org.service.brandcody.dto.response.ProductImportResponse;
 import org.service.brandcody.dto.response.ProductResponse;
 import org.service.brandcody.exception.ErrorResponse;
+import org.service.brandcody.exception.PreconditionFailedException;
+import org.service.brandcody.service.BulkPriceUpdateService;
+import org.service.brandcody.service.ProductImportReader;
+import org.service.brandcody.service.ProductImportService;
 import org.service.brandcody.service.ProductService;
+import org.service.brandcody.stream.PriceChangeBroadcaster;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -30,7 +51,15 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/products")
 @Tag(name = "상품 API", description = "상품 정보 조회 및 관리를 위한 API")
 public class ProductController {
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
     private final ProductService productService;
+    private final ProductImportService productImportService;
+    private final BulkPriceUpdateService bulkPriceUpdateService;
+    private final ObjectMapper objectMapper;
+    private final PricingProperties pricingProperties;
+    private final PricingConditionalResponses pricingConditionalResponses;
+    private final PriceChangeBroadcaster priceChangeBroadcaster;
 
     @Operation(summary = "모든 상품 조회", description = "시스템에 등록된 모든 상품 정보를 조회합니다.")
     @ApiResponses(value = {
@@ -46,6 +75,31 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
 
+    @Operation(summary = "상품 페이지 조회",
+            description = "ID 순으로 after 다음부터 size건의 상품을 조회합니다. 응답의 nextCursor를 다음 요청의 after로 전달합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "상품 페이지 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 페이지 크기", 
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(params = "size")
+    public ResponseEntity<CursorPage<ProductResponse>> getProductPage(
+            @Parameter(description = "이전 페이지의 마지막 상품 ID") @RequestParam(defaultValue = "0") long after,
+            @Parameter(description = "페이지 크기 (1~1000)", required = true) @RequestParam int size) {
+        return ResponseEntity.ok(productService.getProductPage(after, size).map(ProductResponse::from));
+    }
+
+    @Operation(summary = "전체 상품 스트리밍 조회",
+            description = "모든 상품을 ID 순으로 조회하면서 바로 JSON 배열로 내려줍니다. 대량 내보내기에 사용합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "상품 스트리밍 시작")
+    })
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamProducts() {
+        return JsonArrayStreams.<ProductResponse>of(objectMapper,
+                sink -> productService.streamProducts(view -> sink.accept(ProductResponse.from(view))));
+    }
+
     @Operation(summary = "상품 상세 조회", description = "특정 ID의 상품 정보를 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "상품 조회 성공"),
@@ -55,8 +109,8 @@ public class ProductController {
     @GetMapping("/{id}")
     public ResponseEntity<ProductResponse> getProductById(
             @Parameter(description = "상품 ID", required = true) @PathVariable Long id) {
-        Product product = productService.getProductById(id);
-        return ResponseEntity.ok(ProductResponse.from(product));
+        ProductView product = productService.getProductById(id);
+        return withETag(product.version(), ProductResponse.from(product));
     }
 
     @Operation(summary = "브랜드별 상품 조회", description = "특정 브랜드의 모든 상품을 조회합니다.")
@@ -93,20 +147,74 @@ public class ProductController {
         return new ResponseEntity<>(ProductResponse.from(product), HttpStatus.CREATED);
     }
 
-    @Operation(summary = "상품 정보 수정", description = "기존 상품의 가격을 수정합니다.")
+    @Operation(summary = "상품 대량 등록",
+            description = "JSON 배열 또는 CSV(brandId,category,price)로 전달된 상품을 한 트랜잭션에서 일괄 등록합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "상품 일괄 등록 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (모든 항목이 등록되지 않음)", 
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ProductImportResponse> importProductsFromJson(InputStream body) {
+        ProductImportResponse response = productImportService.importProducts(ProductImportReader.fromJson(body, objectMapper));
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "상품 대량 등록 (CSV)",
+            description = "헤더가 brandId,category,price인 CSV로 전달된 상품을 한 트랜잭션에서 일괄 등록합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "상품 일괄 등록 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (모든 항목이 등록되지 않음)", 
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping(value = "/bulk", consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<ProductImportResponse> importProductsFromCsv(InputStream body) {
+        ProductImportResponse response = productImportService.importProducts(ProductImportReader.fromCsv(body));
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "상품 가격 일괄 변경",
+            description = "상품 ID 또는 브랜드 ID + 카테고리로 지정한 상품들의 가격을 한 트랜잭션에서 변경합니다. " +
+                    "버전 충돌이나 존재하지 않는 항목은 재시도하지 않고 결과의 conflicts로 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "일괄 변경 처리 완료 (충돌 항목 포함 가능)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청", 
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PutMapping("/bulk/prices")
+    public ResponseEntity<BulkPriceUpdateResponse> updatePrices(
+            @Parameter(description = "변경 항목 목록", required = true) @Valid @RequestBody BulkPriceUpdateRequest request) {
+        return ResponseEntity.ok(bulkPriceUpdateService.updatePrices(request.getItems()));
+    }
+
+    @Operation(summary = "상품 정보 수정",
+            description = "기존 상품의 가격을 수정합니다. If-Match에 ETag(버전)를 보내면 그 버전일 때만 수정합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "상품 수정 성공"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청", 
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음", 
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "412", description = "If-Match 버전 불일치 또는 약한 ETag", 
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PutMapping("/{id}")
     public ResponseEntity<ProductResponse> updateProduct(
             @Parameter(description = "상품 ID", required = true) @PathVariable Long id,
+            @Parameter(description = "조건부 수정할 상품 버전 (ETag)") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Parameter(description = "수정할 상품 정보", required = true) @Valid @RequestBody ProductRequest request) {
+        Long expectedVersion = parseIfMatch(ifMatch);
+        if (expectedVersion != null) {
+            Product product = productService.updateProductIfVersionMatches(id, request.getPrice(), expectedVersion);
+            return withETag(product.getVersion(), ProductResponse.from(product));
+        }
+        // 조건 없는 수정은 원자적 모드면 단일 UPDATE로, 아니면 기존 낙관적 락 + 재시도 경로로 처리
+        if (pricingProperties.isAtomicUpdates()) {
+            ProductView view = productService.updatePriceAtomically(id, request.getPrice());
+            return withETag(view.version(), ProductResponse.from(view));
+        }
         Product product = productService.updateProduct(id, request.getPrice());
-        return ResponseEntity.ok(ProductResponse.from(product));
+        return withETag(product.getVersion(), ProductResponse.from(product));
     }
 
     @Operation(summary = "브랜드-카테고리 상품 수정", 
@@ -144,45 +252,132 @@ public class ProductController {
     }
 
     @Operation(summary = "카테고리별 최저가격 조회", 
-            description = "각 카테고리별 최저가격 브랜드와 상품 가격, 총액을 조회합니다.")
+            description = "각 카테고리별 최저가격 브랜드와 상품 가격, 총액을 조회합니다. If-None-Match가 현재 ETag와 같으면 304를 반환합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "최저가격 조회 성공"),
+            @ApiResponse(responseCode = "200", description = "최저가격 조회 성공",
+                    content = @Content(schema = @Schema(implementation = LowestPriceResponse.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
             @ApiResponse(responseCode = "500", description = "서버 오류", 
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/lowest-price")
-    public ResponseEntity<LowestPriceResponse> getLowestPriceByAllCategories() {
-        List<CategoryBrandPriceDto> lowestPrices = productService.findLowestPriceByAllCategories();
+    public ResponseEntity<byte[]> getLowestPriceByAllCategories(WebRequest request) {
+        return pricingConditionalResponses.respond(request, "products/lowest-price",
+                () -> lowestPriceResponse(productService.findLowestPriceByAllCategories()));
+    }
 
-        int totalPrice = lowestPrices.stream()
-                .mapToInt(CategoryBrandPriceDto::getPrice)
-                .sum();
-        
-        LowestPriceResponse response = LowestPriceResponse.builder()
-                .categories(lowestPrices)
-                .totalPrice(totalPrice)
-                .build();
-        
-        return ResponseEntity.ok(response);
+    @Operation(summary = "브랜드 제외 카테고리별 최저가격 조회",
+            description = "지정한 브랜드(품절, 판매 중지 등)를 제외하고 각 카테고리별 최저가격 브랜드와 상품 가격, 총액을 조회합니다. " +
+                    "동일 최저가는 브랜드마다 한 건씩 모두 포함하며, 남은 브랜드가 없는 카테고리는 빠집니다. If-None-Match가 현재 ETag와 같으면 304를 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "최저가격 조회 성공",
+                    content = @Content(schema = @Schema(implementation = LowestPriceResponse.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
+            @ApiResponse(responseCode = "400", description = "제외 브랜드 수 초과",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(value = "/lowest-price", params = "excludeBrands")
+    public ResponseEntity<byte[]> getLowestPriceByAllCategoriesExcluding(
+            @Parameter(description = "제외할 브랜드명 (쉼표로 구분, 최대 100개)", required = true) @RequestParam List<String> excludeBrands,
+            WebRequest request) {
+        BrandExclusions exclusions = BrandExclusions.of(excludeBrands);
+        return pricingConditionalResponses.respondUnretained(request,
+                () -> lowestPriceResponse(productService.findLowestPriceByAllCategoriesExcluding(exclusions)));
     }
 
     @Operation(summary = "카테고리별 최저/최고가격 조회", 
-            description = "특정 카테고리의 최저가격 브랜드와 최고가격 브랜드, 가격을 조회합니다.")
+            description = "특정 카테고리의 최저가격 브랜드와 최고가격 브랜드, 가격을 조회합니다. If-None-Match가 현재 ETag와 같으면 304를 반환합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "카테고리 가격 정보 조회 성공"),
+            @ApiResponse(responseCode = "200", description = "카테고리 가격 정보 조회 성공",
+                    content = @Content(schema = @Schema(implementation = CategoryPriceResponse.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
             @ApiResponse(responseCode = "400", description = "잘못된 카테고리", 
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/category/{category}")
-    public ResponseEntity<CategoryPriceResponse> getCategoryPriceInfo(
-            @Parameter(description = "카테고리명", required = true) @PathVariable String category) {
+    public ResponseEntity<byte[]> getCategoryPriceInfo(
+            @Parameter(description = "카테고리명", required = true) @PathVariable String category,
+            WebRequest request) {
         Category categoryEnum = Category.fromDisplayName(category)
                 .orElseThrow(() -> new IllegalArgumentException("Invalid category: " + category));
-        
-        List<CategoryBrandPriceDto> lowestPrices = productService.findLowestPriceByCategory(categoryEnum);
-        List<CategoryBrandPriceDto> highestPrices = productService.findHighestPriceByCategory(categoryEnum);
-        
-        CategoryPriceResponse response = CategoryPriceResponse.from(category, lowestPrices, highestPrices);
-        return ResponseEntity.ok(response);
+
+        // 응답에는 요청한 카테고리 표기(영문/한글)가 그대로 들어가므로 그 표기로 본문을 구분한다
+        return pricingConditionalResponses.respond(request, "products/category/" + category, () -> {
+            CategoryPriceRange priceRange = productService.findPriceRangeByCategory(categoryEnum);
+            return CategoryPriceResponse.from(category, priceRange.lowest(), priceRange.highest());
+        });
+    }
+
+    @Operation(summary = "카테고리별 상위 K 브랜드 조회",
+            description = "특정 카테고리에서 가장 싼 브랜드와 가장 비싼 브랜드를 각각 최대 k곳까지 가격순으로 조회합니다. " +
+                    "브랜드마다 한 건(최저가 목록은 그 브랜드의 최저가, 최고가 목록은 최고가)만 포함합니다. If-None-Match가 현재 ETag와 같으면 304를 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "상위 브랜드 조회 성공",
+                    content = @Content(schema = @Schema(implementation = CategoryTopOffersResponse.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
+            @ApiResponse(responseCode = "400", description = "잘못된 카테고리 또는 허용 범위를 벗어난 k",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/category/{category}/top")
+    public ResponseEntity<byte[]> getCategoryTopOffers(
+            @Parameter(description = "카테고리명", required = true) @PathVariable String category,
+            @Parameter(description = "조회할 브랜드 수 (1~brandcody.pricing.top-offers-max)") @RequestParam(defaultValue = "5") int k,
+            WebRequest request) {
+        Category categoryEnum = Category.fromDisplayName(category)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid category: " + category));
+        // 범위를 벗어난 k는 If-None-Match가 있어도 304가 아니라 400으로 끝낸다
+        productService.validateTopOffersK(k);
+
+        return pricingConditionalResponses.respond(request, "products/category/" + category + "/top/" + k,
+                () -> CategoryTopOffersResponse.from(category, k, productService.findTopOffersByCategory(categoryEnum, k)));
+    }
+
+    @Operation(summary = "가격 변경 스트림 구독",
+            description = "SSE로 가격 변경을 받습니다. 연결 직후 현재 카테고리별 최저/최고가와 최저가 브랜드를 보내고, 이후 " +
+                    "product-price(상품 가격 변경), category-min/category-max(카테고리 최저/최고가 변경), " +
+                    "cheapest-brand(최저가 브랜드 변경) 이벤트를 보냅니다. 아직 보내지 못한 같은 대상의 변경은 최신 값으로 합쳐집니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "스트림 시작")
+    })
+    @GetMapping(value = "/price-changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPriceChanges() {
+        return priceChangeBroadcaster.subscribe();
+    }
+
+    private static LowestPriceResponse lowestPriceResponse(List<CategoryBrandPriceDto> lowestPrices) {
+        int totalPrice = lowestPrices.stream()
+                .mapToInt(CategoryBrandPriceDto::getPrice)
+                .sum();
+
+        return LowestPriceResponse.builder()
+                .categories(lowestPrices)
+                .totalPrice(totalPrice)
+                .build();
+    }
+
+    private static ResponseEntity<ProductResponse> withETag(Long version, ProductResponse body) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (version != null) {
+            builder.eTag(String.valueOf(version));
+        }
+        return builder.body(body);
+    }
+
+    // If-Match는 "3", 3 형태를 받는다. *는 조건 없는 수정으로 취급한다.
+    // If-Match는 강한 비교만 허용하므로(RFC 9110) 약한 ETag(W/"3")로는 수정할 수 없다
+    private static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            throw new PreconditionFailedException("Weak ETag cannot be used with If-Match: " + ifMatch);
+        }
+        tag = tag.replace("\"", "");
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid If-Match header: " + ifMatch);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+package org.service.brandcody.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.service.brandcody.event.ChangeType;
+
+import java.time.Instant;
+
+// 변경 동기화용 append-only 변경 기록. 쓰기/조회는 CatalogChangeJdbcRepository가 JDBC로 배치 처리하고,
+// 엔티티는 테이블 정의에만 쓴다. 삭제는 보존 기간이 지난 기록을 시퀀스 순으로 잘라낼 때만 일어난다.
+@Entity
+@Immutable
+@Table(name = "catalog_changes", indexes = {
+        @Index(name = "idx_catalog_change_changed_at", columnList = "changed_at")
+})
+@Getter
+@NoArgsConstructor
+public class CatalogChange {
+    public enum EntityType {
+        PRODUCT, BRAND
+    }
+
+    // 커밋 순서와 무관하게 단조 증가하는 변경 시퀀스 (CatalogChangeLog가 할당)
+    @Id
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private EntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ChangeType changeType;
+
+    private Long brandId;
+
+    private String brandName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private Category category;
+
+    private Integer price;
+
+    @Column(nullable = false)
+    private Instant changedAt;
+}
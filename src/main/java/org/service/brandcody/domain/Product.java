@@ -15,8 +15,10 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 public class Product {
+    // 시퀀스를 블록 단위로 할당받아 대량 등록 시 insert를 JDBC 배치로 묶을 수 있게 한다 (초기 데이터 ID 이후부터 시작)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", initialValue = 1000, allocationSize = 100)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,30 @@
+package org.service.brandcody.dto;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 최저가 조회에서 제외할 브랜드명. 조회 비용이 제외 목록 길이에 비례하므로 개수를 제한한다
+public record BrandExclusions(Set<String> brandNames) {
+    public static final int MAX_SIZE = 100;
+    public static final BrandExclusions NONE = new BrandExclusions(Set.of());
+
+    public BrandExclusions {
+        brandNames = Set.copyOf(brandNames);
+    }
+
+    public static BrandExclusions of(List<String> brandNames) {
+        Set<String> names = brandNames.stream()
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toSet());
+        if (names.size() > MAX_SIZE) {
+            throw new IllegalArgumentException("Up to " + MAX_SIZE + " brands can be excluded: " + names.size());
+        }
+        return new BrandExclusions(names);
+    }
+
+    public boolean excludes(String brandName) {
+        return brandNames.contains(brandName);
+    }
+}
@@ -0,0 +1,5 @@
+package org.service.brandcody.dto;
+
+// 캐시용 브랜드 읽기 모델. 상품 컬렉션이나 프록시 없이 ID와 이름만 담는다.
+public record BrandView(Long id, String name) {
+}
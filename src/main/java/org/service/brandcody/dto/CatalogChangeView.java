@@ -0,0 +1,22 @@
+package org.service.brandcody.dto;
+
+import org.service.brandcody.domain.CatalogChange;
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.event.ChangeType;
+
+import java.time.Instant;
+
+// 변경 기록 한 건. 상품 변경이면 변경 후 상품 정보를, 브랜드 변경이면 변경 후 브랜드명을 담는다.
+// 삭제(DELETED)는 툼스톤이며, 브랜드 삭제는 그 브랜드의 상품 삭제도 뜻한다
+public record CatalogChangeView(
+        long sequence,
+        CatalogChange.EntityType entityType,
+        Long entityId,
+        ChangeType changeType,
+        Long brandId,
+        String brandName,
+        Category category,
+        Integer price,
+        Instant changedAt
+) {
+}
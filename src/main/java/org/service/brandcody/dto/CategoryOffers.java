@@ -0,0 +1,22 @@
+package org.service.brandcody.dto;
+
+import java.util.List;
+
+// 한 카테고리에서 가장 싼/비싼 브랜드 순 상위 목록. 브랜드마다 한 건(가장 싼 쪽은 그 브랜드의 최저가, 비싼 쪽은 최고가)만 담는다
+public record CategoryOffers(List<CategoryBrandPriceDto> cheapest, List<CategoryBrandPriceDto> mostExpensive) {
+    public static final CategoryOffers EMPTY = new CategoryOffers(List.of(), List.of());
+
+    public CategoryOffers {
+        cheapest = List.copyOf(cheapest);
+        mostExpensive = List.copyOf(mostExpensive);
+    }
+
+    public CategoryOffers limit(int k) {
+        if (cheapest.size() <= k && mostExpensive.size() <= k) {
+            return this;
+        }
+        return new CategoryOffers(
+                cheapest.subList(0, Math.min(k, cheapest.size())),
+                mostExpensive.subList(0, Math.min(k, mostExpensive.size())));
+    }
+}
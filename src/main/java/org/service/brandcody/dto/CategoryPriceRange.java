@@ -0,0 +1,12 @@
+package org.service.brandcody.dto;
+
+import java.util.List;
+
+// 한 카테고리의 최저가/최고가 브랜드(동일 가격이면 모두)를 한 번에 계산해 하나의 캐시 항목으로 저장한다
+public record CategoryPriceRange(List<CategoryBrandPriceDto> lowest, List<CategoryBrandPriceDto> highest) {
+
+    public CategoryPriceRange {
+        lowest = List.copyOf(lowest);
+        highest = List.copyOf(highest);
+    }
+}
@@ -0,0 +1,39 @@
+package org.service.brandcody.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.function.Function;
+
+// ID 기준 키셋 페이지. nextCursor를 다음 요청의 after로 넘기며, 마지막 페이지면 null이다.
+@Schema(description = "커서 기반 페이지 응답 모델")
+public record CursorPage<T>(
+        @Schema(description = "페이지 항목") List<T> items,
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "100") Long nextCursor
+) {
+
+    public static final int MAX_SIZE = 1000;
+
+    public CursorPage {
+        items = List.copyOf(items);
+    }
+
+    public static void validateSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_SIZE + ": " + size);
+        }
+    }
+
+    // size + 1건을 조회한 결과로 다음 페이지 존재 여부를 판단한다
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, Long> idExtractor) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, size);
+        return new CursorPage<>(items, idExtractor.apply(items.getLast()));
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+}
@@ -2,9 +2,6 @@ package org.service.brandcody.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
-import java.text.NumberFormat;
-import java.util.Locale;
-
 @Schema(description = "상품 항목 정보")
 public record ItemDto(
     @Schema(description = "카테고리명", example = "상의") String category,
@@ -15,7 +12,17 @@ public record ItemDto(
         return new ItemDto(category, price, formatPrice(price));
     }
     
+    // Locale.KOREA 숫자 형식과 같이 세 자리마다 쉼표를 넣는다. 호출마다 NumberFormat을 만들지 않는다
     public static String formatPrice(int price) {
-        return NumberFormat.getNumberInstance(Locale.KOREA).format(price) + "원";
+        String digits = Integer.toString(price);
+        int start = price < 0 ? 1 : 0;
+        StringBuilder formatted = new StringBuilder(digits.length() + 5).append(digits, 0, start);
+        for (int i = start; i < digits.length(); i++) {
+            if (i > start && (digits.length() - i) % 3 == 0) {
+                formatted.append(',');
+            }
+            formatted.append(digits.charAt(i));
+        }
+        return formatted.append('원').toString();
     }
 }
@@ -0,0 +1,8 @@
+package org.service.brandcody.dto;
+
+import org.service.brandcody.domain.Category;
+
+// 목록/스트리밍/캐시용 상품 읽기 모델. 영속성 컨텍스트에 올라가지 않아 대량 조회에도 메모리가 일정하고,
+// 브랜드명을 함께 담아 응답 변환 시 지연 로딩이 일어나지 않는다.
+public record ProductView(Long id, Long brandId, String brandName, Category category, int price, Long version) {
+}
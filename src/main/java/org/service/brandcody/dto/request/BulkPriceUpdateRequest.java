@@ -0,0 +1,21 @@
+package org.service.brandcody.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "가격 일괄 변경 요청 모델")
+public class BulkPriceUpdateRequest {
+    @Valid
+    @NotEmpty(message = "Items cannot be empty")
+    @Schema(description = "변경 항목 목록", required = true)
+    private List<PriceUpdateItem> items;
+}
@@ -0,0 +1,32 @@
+package org.service.brandcody.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.service.brandcody.domain.Category;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "가격 일괄 변경 항목 (상품 ID 또는 브랜드 ID + 카테고리로 지정)")
+public class PriceUpdateItem {
+    @Schema(description = "상품 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "브랜드 ID (상품 ID 대신 사용, 해당 카테고리의 최저가 상품을 변경)", example = "1")
+    private Long brandId;
+
+    @Schema(description = "카테고리 (브랜드 ID와 함께 사용)", example = "TOP", enumAsRef = true)
+    private Category category;
+
+    @NotNull(message = "Price cannot be null")
+    @Min(value = 0, message = "Price must be at least 0")
+    @Schema(description = "변경할 가격", example = "10000", required = true, minimum = "0")
+    private Integer price;
+
+    @Schema(description = "클라이언트가 알고 있는 상품 버전 (생략 시 조회 시점의 버전 사용)", example = "0")
+    private Long version;
+}
@@ -0,0 +1,22 @@
+package org.service.brandcody.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.service.brandcody.domain.Category;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "상품 대량 등록 항목")
+public class ProductImportItem {
+    @Schema(description = "브랜드 ID", example = "1", required = true)
+    private Long brandId;
+
+    @Schema(description = "카테고리", example = "TOP", required = true, enumAsRef = true)
+    private Category category;
+
+    @Schema(description = "상품 가격", example = "10000", required = true, minimum = "0")
+    private Integer price;
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import org.service.brandcody.domain.Brand;
+import org.service.brandcody.dto.BrandView;
 
 @Getter
 @Builder
@@ -23,4 +24,11 @@ public class BrandResponse {
                 .name(brand.getName())
                 .build();
     }
-}
\ No newline at end of file
+
+    public static BrandResponse from(BrandView view) {
+        return BrandResponse.builder()
+                .id(view.id())
+                .name(view.name())
+                .build();
+    }
+}
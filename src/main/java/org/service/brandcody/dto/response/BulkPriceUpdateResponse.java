@@ -0,0 +1,50 @@
+package org.service.brandcody.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.service.brandcody.domain.Category;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@Schema(description = "가격 일괄 변경 결과 모델")
+public class BulkPriceUpdateResponse {
+    @Schema(description = "요청 항목 수", example = "3")
+    private int requestedCount;
+
+    @Schema(description = "반영된 항목 수", example = "2")
+    private int updatedCount;
+
+    @Schema(description = "반영되지 않은 항목 목록")
+    private List<Conflict> conflicts;
+
+    public enum Reason {
+        NOT_FOUND,
+        VERSION_CONFLICT,
+        DUPLICATE_TARGET
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Schema(description = "반영되지 않은 항목")
+    public static class Conflict {
+        @Schema(description = "요청 목록에서의 위치 (0부터)", example = "1")
+        private int index;
+
+        @Schema(description = "상품 ID", example = "1")
+        private Long id;
+
+        @Schema(description = "브랜드 ID", example = "1")
+        private Long brandId;
+
+        @Schema(description = "카테고리", example = "TOP")
+        private Category category;
+
+        @Schema(description = "사유", example = "VERSION_CONFLICT")
+        private Reason reason;
+    }
+}
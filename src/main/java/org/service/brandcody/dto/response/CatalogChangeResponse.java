@@ -0,0 +1,32 @@
+package org.service.brandcody.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.service.brandcody.dto.CatalogChangeView;
+
+import java.time.Instant;
+
+@Schema(description = "카탈로그 변경 항목 모델")
+public record CatalogChangeResponse(
+    @Schema(description = "변경 시퀀스", example = "42") long sequence,
+    @Schema(description = "대상 종류 (PRODUCT, BRAND)", example = "PRODUCT") String entity,
+    @Schema(description = "대상 ID", example = "1") Long id,
+    @Schema(description = "변경 유형 (CREATED, UPDATED, DELETED). DELETED는 툼스톤이며 브랜드 삭제는 그 브랜드 상품의 삭제도 뜻함", example = "UPDATED") String change,
+    @Schema(description = "브랜드 ID", example = "1") Long brandId,
+    @Schema(description = "브랜드명 (브랜드 삭제 시 null)", example = "TestA") String brand,
+    @Schema(description = "카테고리명 (상품 변경만)", example = "상의") String category,
+    @Schema(description = "가격 (상품 변경만)", example = "10000") Integer price,
+    @Schema(description = "변경 시각") Instant changedAt
+) {
+    public static CatalogChangeResponse from(CatalogChangeView view) {
+        return new CatalogChangeResponse(
+                view.sequence(),
+                view.entityType().name(),
+                view.entityId(),
+                view.changeType().name(),
+                view.brandId(),
+                view.brandName(),
+                view.category() == null ? null : view.category().getDisplayName(),
+                view.price(),
+                view.changedAt());
+    }
+}
@@ -0,0 +1,17 @@
+package org.service.brandcody.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "카탈로그 변경 목록 응답 모델")
+public record CatalogChangesResponse(
+    @Schema(description = "since 이후의 변경 (시퀀스 순)") List<CatalogChangeResponse> changes,
+    @Schema(description = "다음 요청의 since로 보낼 값", example = "42") long nextSince,
+    @Schema(description = "limit 때문에 남은 변경이 더 있으면 true") boolean hasMore,
+    @Schema(description = "현재 조회 가능한 마지막 시퀀스. 전체 목록을 받기 전에 기록해 두면 이후 변경을 빠짐없이 받을 수 있음", example = "42") long latestSequence
+) {
+    public CatalogChangesResponse {
+        changes = List.copyOf(changes);
+    }
+}
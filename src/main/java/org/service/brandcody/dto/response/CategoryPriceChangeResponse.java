@@ -0,0 +1,27 @@
+package org.service.brandcody.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.dto.CategoryBrandPriceDto;
+import org.service.brandcody.dto.ItemDto;
+
+import java.util.List;
+
+@Schema(description = "카테고리 최저/최고가 변경 이벤트 모델")
+public record CategoryPriceChangeResponse(
+    @Schema(description = "카테고리명", example = "상의") String category,
+    @Schema(description = "가격 (상품이 없으면 null)", example = "10000") Integer price,
+    @Schema(description = "포맷된 가격", example = "10,000원") String formattedPrice,
+    @Schema(description = "해당 가격의 브랜드 목록 (동일 가격이면 모두)") List<String> brands
+) {
+    public static CategoryPriceChangeResponse of(Category category, List<CategoryBrandPriceDto> prices) {
+        if (prices.isEmpty()) {
+            return new CategoryPriceChangeResponse(category.getDisplayName(), null, null, List.of());
+        }
+        int price = prices.getFirst().getPrice();
+        List<String> brands = prices.stream()
+                .map(CategoryBrandPriceDto::getBrandName)
+                .toList();
+        return new CategoryPriceChangeResponse(category.getDisplayName(), price, ItemDto.formatPrice(price), brands);
+    }
+}
@@ -0,0 +1,34 @@
+package org.service.brandcody.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.service.brandcody.dto.CategoryBrandPriceDto;
+import org.service.brandcody.dto.CategoryOffers;
+
+import java.util.List;
+
+@Schema(description = "카테고리별 상위 K 브랜드 가격 응답 모델")
+public record CategoryTopOffersResponse(
+    @Schema(description = "카테고리명", example = "상의") String category,
+    @Schema(description = "요청한 브랜드 수", example = "5") int k,
+    @Schema(description = "가장 싼 브랜드부터 최대 k곳 (브랜드별 최저가)") List<Offer> cheapest,
+    @Schema(description = "가장 비싼 브랜드부터 최대 k곳 (브랜드별 최고가)") List<Offer> mostExpensive
+) {
+    public static CategoryTopOffersResponse from(String categoryDisplayName, int k, CategoryOffers offers) {
+        return new CategoryTopOffersResponse(
+                categoryDisplayName,
+                k,
+                offers.cheapest().stream().map(Offer::from).toList(),
+                offers.mostExpensive().stream().map(Offer::from).toList());
+    }
+
+    @Schema(description = "브랜드 가격")
+    public record Offer(
+        @Schema(description = "브랜드명", example = "TestA") String brand,
+        @Schema(description = "가격", example = "10000") int price,
+        @Schema(description = "포맷된 가격", example = "10,000") String formattedPrice
+    ) {
+        static Offer from(CategoryBrandPriceDto dto) {
+            return new Offer(dto.getBrandName(), dto.getPrice(), dto.getFormattedPrice());
+        }
+    }
+}
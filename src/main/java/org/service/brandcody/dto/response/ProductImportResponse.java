@@ -0,0 +1,21 @@
+package org.service.brandcody.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@Schema(description = "상품 대량 등록 결과 모델")
+public class ProductImportResponse {
+    @Schema(description = "등록된 상품 수", example = "50000")
+    private int importedCount;
+
+    @Schema(description = "상품이 등록된 브랜드 수", example = "9")
+    private int brandCount;
+
+    @Schema(description = "처리 시간(ms)", example = "820")
+    private long elapsedMillis;
+}
@@ -0,0 +1,27 @@
+package org.service.brandcody.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.service.brandcody.dto.ItemDto;
+import org.service.brandcody.event.ProductChangedEvent;
+
+@Schema(description = "상품 가격 변경 이벤트 모델")
+public record ProductPriceChangeResponse(
+    @Schema(description = "상품 ID", example = "1") Long id,
+    @Schema(description = "브랜드 ID", example = "1") Long brandId,
+    @Schema(description = "브랜드명", example = "TestA") String brand,
+    @Schema(description = "카테고리명", example = "상의") String category,
+    @Schema(description = "가격", example = "10000") int price,
+    @Schema(description = "포맷된 가격", example = "10,000원") String formattedPrice,
+    @Schema(description = "변경 유형", example = "UPDATED") String change
+) {
+    public static ProductPriceChangeResponse from(ProductChangedEvent event) {
+        return new ProductPriceChangeResponse(
+                event.productId(),
+                event.brandId(),
+                event.brandName(),
+                event.category().getDisplayName(),
+                event.price(),
+                ItemDto.formatPrice(event.price()),
+                event.type().name());
+    }
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import org.service.brandcody.domain.Product;
+import org.service.brandcody.dto.ProductView;
 
 @Getter
 @Builder
@@ -31,4 +32,13 @@ public class ProductResponse {
                 .price(product.getPrice())
                 .build();
     }
-}
\ No newline at end of file
+
+    public static ProductResponse from(ProductView view) {
+        return ProductResponse.builder()
+                .id(view.id())
+                .brand(view.brandName())
+                .category(view.category().getDisplayName())
+                .price(view.price())
+                .build();
+    }
+}
@@ -7,11 +7,10 @@ import lombok.Getter;
 import org.service.brandcody.domain.Brand;
 import org.service.brandcody.domain.Category;
 import org.service.brandcody.dto.ItemDto;
+import org.service.brandcody.index.BrandTotal;
 
-import java.text.NumberFormat;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Locale;
 import java.util.Objects;
 
 @Getter
@@ -42,18 +41,29 @@ public class SingleBrandResponse {
             .map(p -> new ItemDto(
                     p.getCategory().getDisplayName(),
                     p.getPrice(),
-                    formatPrice(p.getPrice())))
+                    ItemDto.formatPrice(p.getPrice())))
             .toList();
 
         return SingleBrandResponse.builder()
                 .brand(brand.getName())
                 .items(items)
                 .totalPrice(calculatedTotalPrice)
-                .formattedTotalPrice(formatPrice(calculatedTotalPrice))
+                .formattedTotalPrice(ItemDto.formatPrice(calculatedTotalPrice))
                 .build();
     }
     
-    private static String formatPrice(int price) {
-        return NumberFormat.getNumberInstance(Locale.KOREA).format(price) + "원";
+    // 인덱스가 이미 계산한 카테고리별 최저가로 만들므로 상품을 다시 조회하지 않는다
+    public static SingleBrandResponse from(BrandTotal total) {
+        List<ItemDto> items = Arrays.stream(Category.values())
+            .filter(total.cheapestPrices()::containsKey)
+            .map(category -> ItemDto.of(category.getDisplayName(), total.cheapestPrices().get(category)))
+            .toList();
+
+        return SingleBrandResponse.builder()
+                .brand(total.brandName())
+                .items(items)
+                .totalPrice(total.totalPrice())
+                .formattedTotalPrice(ItemDto.formatPrice(total.totalPrice()))
+                .build();
     }
 }
\ No newline at end of file
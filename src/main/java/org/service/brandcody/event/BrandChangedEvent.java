@@ -0,0 +1,21 @@
+package org.service.brandcody.event;
+
+public record BrandChangedEvent(
+        ChangeType type,
+        Long brandId,
+        String previousName,
+        String brandName
+) implements CatalogChangedEvent {
+
+    public static BrandChangedEvent created(Long brandId, String brandName) {
+        return new BrandChangedEvent(ChangeType.CREATED, brandId, null, brandName);
+    }
+
+    public static BrandChangedEvent renamed(Long brandId, String previousName, String brandName) {
+        return new BrandChangedEvent(ChangeType.UPDATED, brandId, previousName, brandName);
+    }
+
+    public static BrandChangedEvent deleted(Long brandId, String brandName) {
+        return new BrandChangedEvent(ChangeType.DELETED, brandId, brandName, null);
+    }
+}
@@ -0,0 +1,6 @@
+package org.service.brandcody.event;
+
+// 상품/브랜드 쓰기 트랜잭션에서 발행되어 커밋 이후 캐시 무효화와 인덱스 갱신에 사용되는 이벤트
+public sealed interface CatalogChangedEvent permits ProductChangedEvent, BrandChangedEvent, ProductsImportedEvent {
+    ChangeType type();
+}
@@ -0,0 +1,7 @@
+package org.service.brandcody.event;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,26 @@
+package org.service.brandcody.event;
+
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.domain.Product;
+
+public record ProductChangedEvent(
+        ChangeType type,
+        Long productId,
+        Long brandId,
+        String brandName,
+        Category category,
+        int price,
+        long version
+) implements CatalogChangedEvent {
+
+    public static ProductChangedEvent of(ChangeType type, Product product) {
+        return new ProductChangedEvent(
+                type,
+                product.getId(),
+                product.getBrand().getId(),
+                product.getBrand().getName(),
+                product.getCategory(),
+                product.getPrice(),
+                product.getVersion() != null ? product.getVersion() : 0L);
+    }
+}
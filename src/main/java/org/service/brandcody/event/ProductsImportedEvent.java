@@ -0,0 +1,30 @@
+package org.service.brandcody.event;
+
+import org.service.brandcody.domain.Category;
+
+import java.util.List;
+import java.util.Set;
+
+// 대량 등록은 상품별 이벤트 대신 영향받은 브랜드/카테고리만 담아 한 번에 무효화한다.
+// 등록된 상품 ID는 변경 기록(CatalogChangeLog)이 상품별 생성 기록을 남기는 데 쓴다
+public record ProductsImportedEvent(
+        Set<Long> brandIds,
+        Set<Category> categories,
+        List<Long> productIds
+) implements CatalogChangedEvent {
+
+    public ProductsImportedEvent {
+        brandIds = Set.copyOf(brandIds);
+        categories = Set.copyOf(categories);
+        productIds = List.copyOf(productIds);
+    }
+
+    public int count() {
+        return productIds.size();
+    }
+
+    @Override
+    public ChangeType type() {
+        return ChangeType.CREATED;
+    }
+}
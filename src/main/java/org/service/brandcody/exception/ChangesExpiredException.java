@@ -0,0 +1,8 @@
+package org.service.brandcody.exception;
+
+// 요청한 시퀀스 이후의 변경 기록 일부가 보존 기간이 지나 삭제된 경우
+public class ChangesExpiredException extends RuntimeException {
+    public ChangesExpiredException(String message) {
+        super(message);
+    }
+}
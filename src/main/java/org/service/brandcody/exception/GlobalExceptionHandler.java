@@ -81,6 +81,18 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailed(PreconditionFailedException e) {
+        ErrorResponse response = ErrorResponse.of(HttpStatus.PRECONDITION_FAILED, e.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(ChangesExpiredException.class)
+    public ResponseEntity<ErrorResponse> handleChangesExpired(ChangesExpiredException e) {
+        ErrorResponse response = ErrorResponse.of(HttpStatus.GONE, e.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.GONE);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleAllUncaughtException(Exception e) {
         String errorMessage = "An unexpected error occurred: " + e.getClass().getSimpleName() + " - " + e.getMessage();
@@ -0,0 +1,8 @@
+package org.service.brandcody.exception;
+
+// If-Match로 전달된 버전이 현재 버전과 달라 조건부 수정을 적용하지 않은 경우
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,24 @@
+package org.service.brandcody.index;
+
+import org.service.brandcody.domain.Category;
+
+import java.util.Comparator;
+import java.util.Map;
+
+// 브랜드의 카테고리별 최저가와 합계. 응답을 만들 때 브랜드 엔티티나 상품 컬렉션을 다시 읽지 않아도 된다.
+public record BrandTotal(Long brandId, String brandName, int totalPrice, Map<Category, Integer> cheapestPrices) {
+
+    // 총액 오름차순, 동일 총액이면 브랜드명, 브랜드 ID 순으로 정렬
+    public static final Comparator<BrandTotal> TOTAL_ORDER = Comparator
+            .comparingInt(BrandTotal::totalPrice)
+            .thenComparing(BrandTotal::brandName)
+            .thenComparing(BrandTotal::brandId);
+
+    public BrandTotal {
+        cheapestPrices = Map.copyOf(cheapestPrices);
+    }
+
+    public BrandTotal(Long brandId, String brandName, int totalPrice) {
+        this(brandId, brandName, totalPrice, Map.of());
+    }
+}
@@ -0,0 +1,250 @@
+package org.service.brandcody.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.repository.ProductRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+// 브랜드별 카테고리 최저가와 그 합계를 유지하고, 모든 카테고리를 갖춘 브랜드를 총액순으로 정렬해 두는 인덱스
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BrandTotalIndex {
+    private final ProductRepository productRepository;
+
+    // DB 적재가 잠금 안에서 일어나므로 가상 스레드가 캐리어에 고정되지 않도록 synchronized 대신 ReentrantLock을 쓴다
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile State state;
+    // 적재/비우기/변경마다 증가한다. 가격 스냅샷이 자신이 어느 상태에서 만들어졌는지 확인하는 데 쓴다
+    private volatile long generation;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            reload();
+        } catch (DataAccessException e) {
+            // 스키마가 아직 없는 경우 첫 조회 시점에 다시 적재한다
+            log.warn("Brand total index warm-up skipped: {}", e.getMessage());
+        }
+    }
+
+    public void reload() {
+        lock.lock();
+        try {
+            State fresh = new State();
+            productRepository.findAllPriceEntries().forEach(fresh::put);
+            state = fresh;
+            generation++;
+            log.debug("Brand total index loaded with {} complete brands", fresh.ranking.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return state != null;
+    }
+
+    public long generation() {
+        return generation;
+    }
+
+    // DB가 인덱스를 거치지 않고 변경된 경우 다음 조회 시 다시 적재하도록 비운다
+    public void invalidate() {
+        lock.lock();
+        try {
+            state = null;
+            generation++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Optional<BrandTotal> findLowestTotal() {
+        return loadedState().ranking.stream().findFirst();
+    }
+
+    public List<BrandTotal> findAllTotals() {
+        return List.copyOf(loadedState().ranking);
+    }
+
+    public void put(PriceEntry entry) {
+        apply(current -> current.put(entry));
+    }
+
+    // version은 삭제 시점의 상품 버전이다. 늦게 도착한 이전 갱신이 삭제된 상품을 되살리지 않도록 남겨 둔다
+    public void remove(Long productId, long version) {
+        apply(current -> current.remove(productId, version));
+    }
+
+    public void renameBrand(Long brandId, String brandName) {
+        apply(current -> current.renameBrand(brandId, brandName));
+    }
+
+    public void removeBrand(Long brandId) {
+        apply(current -> current.removeBrand(brandId));
+    }
+
+    private State loadedState() {
+        State current = state;
+        if (current != null) {
+            return current;
+        }
+        lock.lock();
+        try {
+            if (state == null) {
+                reload();
+            }
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void apply(Consumer<State> change) {
+        lock.lock();
+        try {
+            State current = state;
+            // 아직 적재되지 않았다면 다음 적재 시 커밋된 데이터를 그대로 읽는다
+            if (current != null) {
+                change.accept(current);
+                generation++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ranking 외의 필드는 lock 안에서만 접근한다
+    private static final class State {
+        private final Map<Long, BrandPrices> pricesByBrandId = new HashMap<>();
+        private final Map<Long, PriceEntry> entriesByProductId = new HashMap<>();
+        // 삭제된 상품 ID와 마지막 버전. 다시 적재하면 새 상태와 함께 비워진다
+        private final Map<Long, Long> deletedVersionsByProductId = new HashMap<>();
+        private final NavigableSet<BrandTotal> ranking = new ConcurrentSkipListSet<>(BrandTotal.TOTAL_ORDER);
+
+        private void put(PriceEntry entry) {
+            // 커밋 후 갱신이 뒤바뀐 순서로 도착하면 더 오래된 버전은 버린다. 삭제된 상품은 삭제 시점 버전 이하의 갱신을 받지 않는다
+            PriceEntry stored = entriesByProductId.get(entry.productId());
+            if (stored != null && stored.version() > entry.version()) {
+                return;
+            }
+            Long deletedAt = deletedVersionsByProductId.get(entry.productId());
+            if (deletedAt != null && deletedAt >= entry.version()) {
+                return;
+            }
+            PriceEntry previous = entriesByProductId.put(entry.productId(), entry);
+            if (previous != null) {
+                detach(previous);
+            }
+            BrandPrices prices = pricesByBrandId.computeIfAbsent(entry.brandId(), BrandPrices::new);
+            prices.brandName = entry.brandName();
+            prices.update(entry.category(), entries -> entries.add(entry));
+            rerank(prices);
+        }
+
+        private void remove(Long productId, long version) {
+            PriceEntry previous = entriesByProductId.remove(productId);
+            if (previous != null) {
+                detach(previous);
+            }
+            long lastVersion = previous != null ? Math.max(version, previous.version()) : version;
+            deletedVersionsByProductId.merge(productId, lastVersion, Math::max);
+        }
+
+        private void renameBrand(Long brandId, String brandName) {
+            entriesByProductId.values().stream()
+                    .filter(entry -> entry.brandId().equals(brandId))
+                    .toList()
+                    .forEach(entry -> put(entry.withBrandName(brandName)));
+        }
+
+        private void removeBrand(Long brandId) {
+            entriesByProductId.values().removeIf(entry -> {
+                if (!entry.brandId().equals(brandId)) {
+                    return false;
+                }
+                deletedVersionsByProductId.merge(entry.productId(), entry.version(), Math::max);
+                return true;
+            });
+            BrandPrices prices = pricesByBrandId.remove(brandId);
+            if (prices != null && prices.ranked != null) {
+                ranking.remove(prices.ranked);
+            }
+        }
+
+        private void detach(PriceEntry entry) {
+            BrandPrices prices = pricesByBrandId.get(entry.brandId());
+            if (prices == null) {
+                return;
+            }
+            prices.update(entry.category(), entries -> entries.remove(entry));
+            rerank(prices);
+            if (prices.entriesByCategory.isEmpty()) {
+                pricesByBrandId.remove(entry.brandId());
+            }
+        }
+
+        private void rerank(BrandPrices prices) {
+            if (prices.ranked != null) {
+                ranking.remove(prices.ranked);
+            }
+            prices.ranked = prices.isComplete()
+                    ? new BrandTotal(prices.brandId, prices.brandName, prices.totalPrice, prices.cheapestPrices())
+                    : null;
+            if (prices.ranked != null) {
+                ranking.add(prices.ranked);
+            }
+        }
+    }
+
+    private static final class BrandPrices {
+        private final Long brandId;
+        private final Map<Category, NavigableSet<PriceEntry>> entriesByCategory = new EnumMap<>(Category.class);
+        private String brandName;
+        private int totalPrice;
+        private BrandTotal ranked;
+
+        private BrandPrices(Long brandId) {
+            this.brandId = brandId;
+        }
+
+        // 카테고리 최저가가 바뀐 만큼만 합계를 조정한다
+        private void update(Category category, Consumer<NavigableSet<PriceEntry>> change) {
+            NavigableSet<PriceEntry> entries = entriesByCategory.computeIfAbsent(
+                    category, key -> new TreeSet<>(PriceEntry.PRICE_ORDER));
+            int before = entries.isEmpty() ? 0 : entries.first().price();
+            change.accept(entries);
+            int after = entries.isEmpty() ? 0 : entries.first().price();
+            if (entries.isEmpty()) {
+                entriesByCategory.remove(category);
+            }
+            totalPrice += after - before;
+        }
+
+        private Map<Category, Integer> cheapestPrices() {
+            Map<Category, Integer> cheapest = new EnumMap<>(Category.class);
+            entriesByCategory.forEach((category, entries) -> cheapest.put(category, entries.first().price()));
+            return cheapest;
+        }
+
+        private boolean isComplete() {
+            return entriesByCategory.size() == Category.values().length;
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package org.service.brandcody.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.dto.BrandExclusions;
+import org.service.brandcody.dto.CategoryBrandPriceDto;
+import org.service.brandcody.dto.CategoryOffers;
+import org.service.brandcody.dto.CategoryPriceRange;
+import org.service.brandcody.repository.ProductRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+// 카테고리별 상품을 가격순으로 유지하는 인메모리 인덱스
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryPriceIndex {
+    private final ProductRepository productRepository;
+
+    // DB 적재가 잠금 안에서 일어나므로 가상 스레드가 캐리어에 고정되지 않도록 synchronized 대신 ReentrantLock을 쓴다
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile State state;
+    // 적재/비우기/변경마다 증가한다. 가격 스냅샷이 자신이 어느 상태에서 만들어졌는지 확인하는 데 쓴다
+    private volatile long generation;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            reload();
+        } catch (DataAccessException e) {
+            // 스키마가 아직 없는 경우 첫 조회 시점에 다시 적재한다
+            log.warn("Category price index warm-up skipped: {}", e.getMessage());
+        }
+    }
+
+    public void reload() {
+        lock.lock();
+        try {
+            State fresh = new State();
+            productRepository.findAllPriceEntries().forEach(fresh::put);
+            state = fresh;
+            generation++;
+            log.debug("Category price index loaded with {} products", fresh.entriesByProductId.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return state != null;
+    }
+
+    public long generation() {
+        return generation;
+    }
+
+    // DB가 인덱스를 거치지 않고 변경된 경우 다음 조회 시 다시 적재하도록 비운다
+    public void invalidate() {
+        lock.lock();
+        try {
+            state = null;
+            generation++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<CategoryBrandPriceDto> findLowestPriceByAllCategories() {
+        State current = loadedState();
+        List<CategoryBrandPriceDto> result = new ArrayList<>();
+        for (Category category : Category.values()) {
+            ties(current.entriesByCategory.get(category)).forEach(entry -> result.add(entry.toDto()));
+        }
+        return result;
+    }
+
+    public List<CategoryBrandPriceDto> findLowestPriceByCategory(Category category) {
+        return toDtos(extremes(category).lowest());
+    }
+
+    public List<CategoryBrandPriceDto> findHighestPriceByCategory(Category category) {
+        return toDtos(extremes(category).highest());
+    }
+
+    // 최저가와 최고가를 같은 스냅샷에서 함께 읽는다
+    public CategoryPriceRange findPriceRangeByCategory(Category category) {
+        Extremes extremes = extremes(category);
+        return new CategoryPriceRange(toDtos(extremes.lowest()), toDtos(extremes.highest()));
+    }
+
+    public Extremes extremes(Category category) {
+        NavigableSet<PriceEntry> entries = loadedState().entriesByCategory.get(category);
+        return new Extremes(ties(entries), ties(entries.descendingSet()));
+    }
+
+    // 가격순으로 정렬된 집합의 양 끝에서 브랜드별 첫 상품만 k개까지 읽는다. 정렬은 쓰기 때 이미 유지되므로 조회 시 정렬하지 않는다
+    public CategoryOffers findTopOffers(Category category, int k) {
+        NavigableSet<PriceEntry> entries = loadedState().entriesByCategory.get(category);
+        return new CategoryOffers(toDtos(firstPerBrand(entries, k)), toDtos(firstPerBrand(entries.descendingSet(), k)));
+    }
+
+    // 스냅샷의 상위 브랜드 목록이 모두 제외된 경우에 쓴다. 가격순으로 읽으며 답보다 싼 제외 브랜드 상품을 모두 지나가므로
+    // 비용은 카탈로그 크기가 아니라 그 상품 수에 비례한다
+    public List<CategoryBrandPriceDto> findLowestPriceExcluding(Category category, BrandExclusions exclusions) {
+        List<PriceEntry> result = new ArrayList<>();
+        Set<Long> brandIds = new HashSet<>();
+        for (PriceEntry entry : loadedState().entriesByCategory.get(category)) {
+            if (exclusions.excludes(entry.brandName())) {
+                continue;
+            }
+            if (!result.isEmpty() && entry.price() != result.getFirst().price()) {
+                break;
+            }
+            if (brandIds.add(entry.brandId())) {
+                result.add(entry);
+            }
+        }
+        return toDtos(result);
+    }
+
+    // 브랜드 변경 시 상품 단건 캐시를 비울 대상. 아직 적재되지 않았다면 비어 있다
+    public Optional<List<Long>> findProductIdsByBrand(Long brandId) {
+        State current = state;
+        if (current == null) {
+            return Optional.empty();
+        }
+        return Optional.of(current.entriesByProductId.values().stream()
+                .filter(entry -> entry.brandId().equals(brandId))
+                .map(PriceEntry::productId)
+                .toList());
+    }
+
+    public void put(PriceEntry entry) {
+        apply(current -> current.put(entry));
+    }
+
+    // version은 삭제 시점의 상품 버전이다. 늦게 도착한 이전 갱신이 삭제된 상품을 되살리지 않도록 남겨 둔다
+    public void remove(Long productId, long version) {
+        apply(current -> current.remove(productId, version));
+    }
+
+    public void renameBrand(Long brandId, String brandName) {
+        apply(current -> current.renameBrand(brandId, brandName));
+    }
+
+    public void removeBrand(Long brandId) {
+        apply(current -> current.removeBrand(brandId));
+    }
+
+    private State loadedState() {
+        State current = state;
+        if (current != null) {
+            return current;
+        }
+        lock.lock();
+        try {
+            if (state == null) {
+                reload();
+            }
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void apply(Consumer<State> change) {
+        lock.lock();
+        try {
+            State current = state;
+            // 아직 적재되지 않았다면 다음 적재 시 커밋된 데이터를 그대로 읽는다
+            if (current != null) {
+                change.accept(current);
+                generation++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static List<PriceEntry> ties(NavigableSet<PriceEntry> entries) {
+        List<PriceEntry> result = new ArrayList<>();
+        Iterator<PriceEntry> iterator = entries.iterator();
+        if (!iterator.hasNext()) {
+            return result;
+        }
+        PriceEntry first = iterator.next();
+        result.add(first);
+        while (iterator.hasNext()) {
+            PriceEntry next = iterator.next();
+            if (next.price() != first.price()) {
+                break;
+            }
+            result.add(next);
+        }
+        return result;
+    }
+
+    private static List<PriceEntry> firstPerBrand(NavigableSet<PriceEntry> entries, int k) {
+        List<PriceEntry> result = new ArrayList<>(k);
+        Set<Long> brandIds = new HashSet<>();
+        Iterator<PriceEntry> iterator = entries.iterator();
+        while (result.size() < k && iterator.hasNext()) {
+            PriceEntry entry = iterator.next();
+            if (brandIds.add(entry.brandId())) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    private static List<CategoryBrandPriceDto> toDtos(List<PriceEntry> entries) {
+        return entries.stream()
+                .map(PriceEntry::toDto)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static final class State {
+        private final Map<Category, NavigableSet<PriceEntry>> entriesByCategory = new EnumMap<>(Category.class);
+        private final Map<Long, PriceEntry> entriesByProductId = new ConcurrentHashMap<>();
+        // 삭제된 상품 ID와 마지막 버전. 다시 적재하면 새 상태와 함께 비워진다
+        private final Map<Long, Long> deletedVersionsByProductId = new HashMap<>();
+
+        private State() {
+            for (Category category : Category.values()) {
+                entriesByCategory.put(category, new ConcurrentSkipListSet<>(PriceEntry.PRICE_ORDER));
+            }
+        }
+
+        private void put(PriceEntry entry) {
+            // 커밋 후 갱신이 뒤바뀐 순서로 도착하면 더 오래된 버전은 버린다. 삭제된 상품은 삭제 시점 버전 이하의 갱신을 받지 않는다
+            PriceEntry stored = entriesByProductId.get(entry.productId());
+            if (stored != null && stored.version() > entry.version()) {
+                return;
+            }
+            Long deletedAt = deletedVersionsByProductId.get(entry.productId());
+            if (deletedAt != null && deletedAt >= entry.version()) {
+                return;
+            }
+            // 가격순 비교는 버전을 보지 않으므로 같은 가격의 새 버전은 같은 원소로 취급된다. 이전 항목을 먼저 빼야 새 항목이 남는다
+            PriceEntry previous = entriesByProductId.put(entry.productId(), entry);
+            if (previous != null) {
+                entriesByCategory.get(previous.category()).remove(previous);
+            }
+            entriesByCategory.get(entry.category()).add(entry);
+        }
+
+        private void remove(Long productId, long version) {
+            PriceEntry previous = entriesByProductId.remove(productId);
+            if (previous != null) {
+                entriesByCategory.get(previous.category()).remove(previous);
+            }
+            long lastVersion = previous != null ? Math.max(version, previous.version()) : version;
+            deletedVersionsByProductId.merge(productId, lastVersion, Math::max);
+        }
+
+        private void renameBrand(Long brandId, String brandName) {
+            entriesByProductId.values().stream()
+                    .filter(entry -> entry.brandId().equals(brandId))
+                    .toList()
+                    .forEach(entry -> put(entry.withBrandName(brandName)));
+        }
+
+        private void removeBrand(Long brandId) {
+            entriesByProductId.values().stream()
+                    .filter(entry -> entry.brandId().equals(brandId))
+                    .toList()
+                    .forEach(entry -> remove(entry.productId(), entry.version()));
+        }
+    }
+
+    // 카테고리의 최저가/최고가 동률 상품 목록
+    public record Extremes(List<PriceEntry> lowest, List<PriceEntry> highest) {
+    }
+}
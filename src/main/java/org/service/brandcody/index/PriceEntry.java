@@ -0,0 +1,35 @@
+package org.service.brandcody.index;
+
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.domain.Product;
+import org.service.brandcody.dto.CategoryBrandPriceDto;
+
+import java.util.Comparator;
+
+// version은 커밋 후 갱신이 뒤바뀐 순서로 도착했을 때 더 오래된 가격을 걸러내는 데 쓴다
+public record PriceEntry(Long productId, Long brandId, String brandName, Category category, int price, long version) {
+
+    // 가격 오름차순, 동일 가격이면 브랜드명, 상품 ID 순으로 정렬
+    public static final Comparator<PriceEntry> PRICE_ORDER = Comparator
+            .comparingInt(PriceEntry::price)
+            .thenComparing(PriceEntry::brandName)
+            .thenComparing(PriceEntry::productId);
+
+    public static PriceEntry from(Product product) {
+        return new PriceEntry(
+                product.getId(),
+                product.getBrand().getId(),
+                product.getBrand().getName(),
+                product.getCategory(),
+                product.getPrice(),
+                product.getVersion() != null ? product.getVersion() : 0L);
+    }
+
+    public PriceEntry withBrandName(String brandName) {
+        return new PriceEntry(productId, brandId, brandName, category, price, version);
+    }
+
+    public CategoryBrandPriceDto toDto() {
+        return new CategoryBrandPriceDto(category, brandName, price);
+    }
+}
@@ -0,0 +1,128 @@
+package org.service.brandcody.index;
+
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.dto.BrandExclusions;
+import org.service.brandcody.dto.CategoryBrandPriceDto;
+import org.service.brandcody.dto.CategoryOffers;
+import org.service.brandcody.dto.CategoryPriceRange;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 가격 조회 API가 읽는 불변 읽기 모델. 카테고리별 최저/최고가와 상위 브랜드 목록, 카테고리 최저가 합계, 브랜드 총액 순위를
+// 한 시점의 인덱스에서 함께 계산해 두므로, 한 스냅샷 안의 값들은 서로 어긋나지 않는다.
+public final class PricingSnapshot {
+    private static final CategoryPriceRange EMPTY_RANGE = new CategoryPriceRange(List.of(), List.of());
+
+    private final long version;
+    private final Map<Category, CategoryPriceRange> rangesByCategory;
+    private final Map<Category, CategoryOffers> offersByCategory;
+    private final List<CategoryBrandPriceDto> lowestPriceByAllCategories;
+    private final int totalLowestPrice;
+    private final List<BrandTotal> brandRanking;
+
+    public PricingSnapshot(long version, Map<Category, CategoryPriceRange> rangesByCategory, List<BrandTotal> brandRanking) {
+        this(version, rangesByCategory, Map.of(), brandRanking);
+    }
+
+    public PricingSnapshot(long version,
+                           Map<Category, CategoryPriceRange> rangesByCategory,
+                           Map<Category, CategoryOffers> offersByCategory,
+                           List<BrandTotal> brandRanking) {
+        this.version = version;
+        this.rangesByCategory = new EnumMap<>(Category.class);
+        this.offersByCategory = new EnumMap<>(Category.class);
+        for (Category category : Category.values()) {
+            this.rangesByCategory.put(category, rangesByCategory.getOrDefault(category, EMPTY_RANGE));
+            this.offersByCategory.put(category, offersByCategory.getOrDefault(category, CategoryOffers.EMPTY));
+        }
+        List<CategoryBrandPriceDto> lowest = new ArrayList<>();
+        this.rangesByCategory.values().forEach(range -> lowest.addAll(range.lowest()));
+        this.lowestPriceByAllCategories = List.copyOf(lowest);
+        this.totalLowestPrice = lowestPriceByAllCategories.stream()
+                .mapToInt(CategoryBrandPriceDto::getPrice)
+                .sum();
+        this.brandRanking = List.copyOf(brandRanking);
+    }
+
+    // 바뀐 카테고리만 교체한 새 스냅샷. 값이 같은 카테고리는 기존 객체를 그대로 재사용한다
+    public PricingSnapshot patch(long version,
+                                 Map<Category, CategoryPriceRange> changedRanges,
+                                 Map<Category, CategoryOffers> changedOffers,
+                                 List<BrandTotal> brandRanking) {
+        Map<Category, CategoryPriceRange> ranges = new EnumMap<>(rangesByCategory);
+        changedRanges.forEach((category, range) -> {
+            if (!range.equals(ranges.get(category))) {
+                ranges.put(category, range);
+            }
+        });
+        Map<Category, CategoryOffers> offers = new EnumMap<>(offersByCategory);
+        changedOffers.forEach((category, categoryOffers) -> {
+            if (!categoryOffers.equals(offers.get(category))) {
+                offers.put(category, categoryOffers);
+            }
+        });
+        return new PricingSnapshot(version, ranges, offers,
+                brandRanking.equals(this.brandRanking) ? this.brandRanking : brandRanking);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public CategoryPriceRange priceRange(Category category) {
+        return rangesByCategory.get(category);
+    }
+
+    // 스냅샷에는 설정한 상한(brandcody.pricing.top-offers-max)만큼만 들어 있다
+    public CategoryOffers topOffers(Category category, int k) {
+        return offersByCategory.get(category).limit(k);
+    }
+
+    // 상위 브랜드 목록을 가격순으로 읽으며 제외 브랜드만 건너뛴다 (동일 최저가면 모두, 브랜드마다 한 건).
+    // 목록이 listLimit만큼 차 있는데 끝까지 읽었다면 목록 밖의 브랜드가 답일 수 있으므로 빈 값을 돌려준다
+    public Optional<List<CategoryBrandPriceDto>> lowestPriceExcluding(Category category, BrandExclusions exclusions, int listLimit) {
+        List<CategoryBrandPriceDto> ranked = offersByCategory.get(category).cheapest();
+        List<CategoryBrandPriceDto> result = new ArrayList<>();
+        for (CategoryBrandPriceDto offer : ranked) {
+            if (exclusions.excludes(offer.getBrandName())) {
+                continue;
+            }
+            if (!result.isEmpty() && !offer.getPrice().equals(result.getFirst().getPrice())) {
+                return Optional.of(result);
+            }
+            result.add(offer);
+        }
+        return ranked.size() < listLimit ? Optional.of(result) : Optional.empty();
+    }
+
+    public List<CategoryBrandPriceDto> lowestPriceByAllCategories() {
+        return lowestPriceByAllCategories;
+    }
+
+    public int totalLowestPrice() {
+        return totalLowestPrice;
+    }
+
+    // 모든 카테고리 상품을 갖춘 브랜드를 총액순으로 정렬한 목록
+    public List<BrandTotal> brandRanking() {
+        return brandRanking;
+    }
+
+    public Optional<BrandTotal> lowestTotalBrand() {
+        return brandRanking.isEmpty() ? Optional.empty() : Optional.of(brandRanking.getFirst());
+    }
+
+    // 총액 순위를 앞에서부터 읽어 제외 브랜드가 아닌 첫 브랜드를 찾는다
+    public Optional<BrandTotal> lowestTotalBrandExcluding(BrandExclusions exclusions) {
+        for (BrandTotal brandTotal : brandRanking) {
+            if (!exclusions.excludes(brandTotal.brandName())) {
+                return Optional.of(brandTotal);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,6 @@
+package org.service.brandcody.index;
+
+// 커밋된 변경으로 가격 스냅샷이 교체될 때 발행된다. 스냅샷 교체 잠금 안에서 교체 순서대로 발행되므로
+// previous는 항상 current 직전에 발행된 스냅샷이다
+public record PricingSnapshotChangedEvent(PricingSnapshot previous, PricingSnapshot current) {
+}
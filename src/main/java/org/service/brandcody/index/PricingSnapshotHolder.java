@@ -0,0 +1,177 @@
+package org.service.brandcody.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.service.brandcody.config.PricingProperties;
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.dto.BrandExclusions;
+import org.service.brandcody.dto.CategoryBrandPriceDto;
+import org.service.brandcody.dto.CategoryOffers;
+import org.service.brandcody.dto.CategoryPriceRange;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 두 가격 인덱스에서 파생한 PricingSnapshot을 volatile 참조 하나로 발행한다.
+// 읽기는 참조만 읽고, 쓰기는 잠금 안에서 인덱스를 갱신한 뒤 바뀐 카테고리만 다시 계산한 스냅샷으로 교체한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PricingSnapshotHolder {
+    private final CategoryPriceIndex categoryPriceIndex;
+    private final BrandTotalIndex brandTotalIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PricingProperties pricingProperties;
+
+    // 인덱스 재적재 I/O가 잠금 안에서 일어나므로 가상 스레드 고정을 피하려 ReentrantLock을 쓴다
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Published published;
+    private long version;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            current();
+        } catch (DataAccessException e) {
+            // 스키마가 아직 없는 경우 첫 조회 시점에 다시 만든다
+            log.warn("Pricing snapshot warm-up skipped: {}", e.getMessage());
+        }
+    }
+
+    public PricingSnapshot current() {
+        Published current = published;
+        if (current != null && current.isBuiltFrom(categoryPriceIndex, brandTotalIndex)) {
+            return current.snapshot();
+        }
+        if (current != null) {
+            // 쓰기가 진행 중이면 그 쓰기가 곧 새 스냅샷을 발행하므로 기다리지 않고 직전 스냅샷을 읽는다
+            if (!lock.tryLock()) {
+                return current.snapshot();
+            }
+        } else {
+            lock.lock();
+        }
+        try {
+            Published latest = published;
+            if (latest == null || !latest.isBuiltFrom(categoryPriceIndex, brandTotalIndex)) {
+                latest = rebuild();
+            }
+            return latest.snapshot();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 카테고리별 상위 브랜드 목록은 이 개수까지만 스냅샷에 담는다
+    public int topOffersMax() {
+        return pricingProperties.getTopOffersMax();
+    }
+
+    // 제외 브랜드를 뺀 카테고리별 최저가. 대부분 스냅샷의 상위 브랜드 목록에서 제외 브랜드만 건너뛰어 끝나고,
+    // 제외 브랜드가 목록 상한 이상으로 앞을 차지한 카테고리가 있을 때만 카테고리 인덱스를 직접 읽는다
+    public List<CategoryBrandPriceDto> lowestPriceByAllCategoriesExcluding(BrandExclusions exclusions) {
+        List<CategoryBrandPriceDto> result = new ArrayList<>();
+        PricingSnapshot snapshot = current();
+        boolean complete = true;
+        for (Category category : Category.values()) {
+            Optional<List<CategoryBrandPriceDto>> lowest = snapshot.lowestPriceExcluding(category, exclusions, topOffersMax());
+            if (lowest.isEmpty()) {
+                complete = false;
+                break;
+            }
+            result.addAll(lowest.get());
+        }
+        if (complete) {
+            return result;
+        }
+
+        // 인덱스는 쓰기 때 이 잠금 안에서만 바뀐다. 잠금을 잡고 인덱스와 같은 상태의 스냅샷으로 모든 카테고리를 다시 읽어 섞이지 않게 한다
+        lock.lock();
+        try {
+            Published latest = published;
+            if (latest == null || !latest.isBuiltFrom(categoryPriceIndex, brandTotalIndex)) {
+                latest = rebuild();
+            }
+            PricingSnapshot locked = latest.snapshot();
+            result.clear();
+            for (Category category : Category.values()) {
+                result.addAll(locked.lowestPriceExcluding(category, exclusions, topOffersMax())
+                        .orElseGet(() -> categoryPriceIndex.findLowestPriceExcluding(category, exclusions)));
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 커밋된 변경을 인덱스에 반영하고 새 스냅샷을 발행한다. 동시에 커밋된 변경끼리는 이 잠금으로 직렬화된다
+    public void apply(Set<Category> categories, List<Runnable> indexChanges, boolean reloadIndexes) {
+        lock.lock();
+        try {
+            Published previous = published;
+            boolean patchable = !reloadIndexes && previous != null
+                    && previous.isBuiltFrom(categoryPriceIndex, brandTotalIndex);
+            if (reloadIndexes) {
+                categoryPriceIndex.invalidate();
+                brandTotalIndex.invalidate();
+            }
+            indexChanges.forEach(Runnable::run);
+
+            Published next;
+            if (patchable) {
+                Map<Category, CategoryPriceRange> changedRanges = new EnumMap<>(Category.class);
+                Map<Category, CategoryOffers> changedOffers = new EnumMap<>(Category.class);
+                categories.forEach(category -> {
+                    changedRanges.put(category, categoryPriceIndex.findPriceRangeByCategory(category));
+                    changedOffers.put(category, categoryPriceIndex.findTopOffers(category, topOffersMax()));
+                });
+                next = publish(previous.snapshot().patch(++version, changedRanges, changedOffers, brandTotalIndex.findAllTotals()));
+                log.debug("Pricing snapshot {} patched for categories {}", next.snapshot().version(), categories);
+            } else {
+                next = rebuild();
+            }
+            // 잠금 안에서 발행해 구독자가 교체 순서대로 받게 한다. 리스너는 전달만 예약하고 바로 반환해야 한다
+            if (previous != null) {
+                eventPublisher.publishEvent(new PricingSnapshotChangedEvent(previous.snapshot(), next.snapshot()));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Published rebuild() {
+        Map<Category, CategoryPriceRange> ranges = new EnumMap<>(Category.class);
+        Map<Category, CategoryOffers> offers = new EnumMap<>(Category.class);
+        for (Category category : Category.values()) {
+            ranges.put(category, categoryPriceIndex.findPriceRangeByCategory(category));
+            offers.put(category, categoryPriceIndex.findTopOffers(category, topOffersMax()));
+        }
+        PricingSnapshot snapshot = new PricingSnapshot(++version, ranges, offers, brandTotalIndex.findAllTotals());
+        log.debug("Pricing snapshot {} rebuilt", snapshot.version());
+        return publish(snapshot);
+    }
+
+    // 인덱스 세대는 스냅샷 계산이 끝난 뒤 읽는다 (계산 중 지연 적재로 세대가 바뀔 수 있음)
+    private Published publish(PricingSnapshot snapshot) {
+        Published next = new Published(snapshot, categoryPriceIndex.generation(), brandTotalIndex.generation());
+        published = next;
+        return next;
+    }
+
+    private record Published(PricingSnapshot snapshot, long categoryGeneration, long brandGeneration) {
+        private boolean isBuiltFrom(CategoryPriceIndex categoryPriceIndex, BrandTotalIndex brandTotalIndex) {
+            return categoryGeneration == categoryPriceIndex.generation()
+                    && brandGeneration == brandTotalIndex.generation();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.service.brandcody.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.service.brandcody.cache.CoalescingCache;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.stereotype.Component;
+
+// CoalescingCache로 감싼 캐시는 기본 Caffeine 바인더가 인식하지 못하므로 직접 통계를 등록한다.
+// 적중/미스/제거/로드 시간은 원본 Caffeine 통계를, 합류 횟수는 CoalescingCache 카운터를 사용한다.
+@Component
+public class CoalescingCacheMeterBinderProvider implements CacheMeterBinderProvider<CoalescingCache> {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public MeterBinder getMeterBinder(CoalescingCache cache, Iterable<Tag> tags) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
+                (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache();
+        CaffeineCacheMetrics<Object, Object, ?> caffeineMetrics = new CaffeineCacheMetrics<>(nativeCache, cache.getName(), tags);
+        Tags cacheTags = Tags.of(tags).and("cache", cache.getName());
+
+        return registry -> {
+            caffeineMetrics.bindTo(registry);
+            FunctionCounter.builder("cache.coalesced", cache, CoalescingCache::getCoalescedCount)
+                    .tags(cacheTags)
+                    .description("Callers that waited for an in-flight load of the same key")
+                    .register(registry);
+            FunctionCounter.builder("cache.coalesced.loads", cache, CoalescingCache::getLoadCount)
+                    .tags(cacheTags)
+                    .description("Loads executed through single-flight lookups")
+                    .register(registry);
+        };
+    }
+}
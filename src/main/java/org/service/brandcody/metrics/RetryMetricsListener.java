@@ -0,0 +1,67 @@
+package org.service.brandcody.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.service.brandcody.retry.BudgetedRetryPolicy;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.interceptor.MethodInvocationRetryCallback;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+// @Retryable 메서드의 시도, 실패 시도, 재시도 결과(복구/소진/예산 부족)를 메서드별로 기록한다.
+// 공유 재시도 인터셉터(RetryConfig)에 리스너로 등록된다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RetryMetricsListener implements RetryListener {
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public <T, E extends Throwable> void onSuccess(RetryContext context, RetryCallback<T, E> callback, T result) {
+        meterRegistry.counter("brandcody.retry.attempts",
+                "method", methodName(callback),
+                "outcome", "success").increment();
+    }
+
+    @Override
+    public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        meterRegistry.counter("brandcody.retry.attempts",
+                "method", methodName(callback),
+                "outcome", "failure").increment();
+        meterRegistry.counter("brandcody.retry.failed.attempts",
+                "method", methodName(callback),
+                "exception", throwable.getClass().getSimpleName()).increment();
+    }
+
+    @Override
+    public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        if (context.getRetryCount() > 0) {
+            String outcome = outcome(context, throwable);
+            if ("budget_exhausted".equals(outcome)) {
+                log.warn("Retry budget exhausted, failing {} without further retries", methodName(callback));
+            }
+            meterRegistry.counter("brandcody.retry.completions",
+                    "method", methodName(callback),
+                    "outcome", outcome).increment();
+        }
+    }
+
+    private static String outcome(RetryContext context, Throwable throwable) {
+        if (throwable == null) {
+            return "recovered";
+        }
+        return context.hasAttribute(BudgetedRetryPolicy.BUDGET_REJECTED) ? "budget_exhausted" : "failed";
+    }
+
+    private static String methodName(RetryCallback<?, ?> callback) {
+        if (callback instanceof MethodInvocationRetryCallback<?, ?> invocationCallback) {
+            Method method = invocationCallback.getInvocation().getMethod();
+            return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        }
+        return "unknown";
+    }
+}
@@ -1,13 +1,19 @@
 package org.service.brandcody.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.service.brandcody.domain.Brand;
 import org.service.brandcody.dto.BrandTotalProjection;
+import org.service.brandcody.dto.BrandView;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BrandRepository extends JpaRepository<Brand, Long> {
     Optional<Brand> findByName(String name);
@@ -27,4 +33,24 @@ public interface BrandRepository extends JpaRepository<Brand, Long> {
            "HAVING COUNT(DISTINCT p.category) = 8 " +
            "ORDER BY SUM(p.price) ASC")
     List<BrandTotalProjection> findAllBrandsWithTotalPrice();
-}
\ No newline at end of file
+
+    // 캐시용 읽기 모델 조회 쿼리 (상품 컬렉션을 끌고 오지 않는 프로젝션)
+    @Query("SELECT new org.service.brandcody.dto.BrandView(b.id, b.name) FROM Brand b ORDER BY b.id")
+    List<BrandView> findAllViews();
+
+    @Query("SELECT new org.service.brandcody.dto.BrandView(b.id, b.name) FROM Brand b WHERE b.id = :id")
+    Optional<BrandView> findViewById(@Param("id") Long id);
+
+    @Query("SELECT new org.service.brandcody.dto.BrandView(b.id, b.name) FROM Brand b WHERE b.name = :name")
+    Optional<BrandView> findViewByName(@Param("name") String name);
+
+    // ID 키셋 페이지 조회 (after 이후 ID 순)
+    @Query("SELECT new org.service.brandcody.dto.BrandView(b.id, b.name) FROM Brand b " +
+            "WHERE b.id > :after ORDER BY b.id")
+    List<BrandView> findPageAfter(@Param("after") long after, Pageable pageable);
+
+    // 전체 브랜드 스트리밍 조회. 호출하는 쪽의 트랜잭션 안에서 소비하고 닫아야 한다
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new org.service.brandcody.dto.BrandView(b.id, b.name) FROM Brand b ORDER BY b.id")
+    Stream<BrandView> streamAll();
+}
@@ -0,0 +1,86 @@
+package org.service.brandcody.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.service.brandcody.domain.CatalogChange;
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.dto.CatalogChangeView;
+import org.service.brandcody.event.ChangeType;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+// append-only 변경 기록 테이블 접근. 쓰기는 트랜잭션마다 한 번의 배치 insert로, 조회는 시퀀스 범위로만 한다.
+@Repository
+@RequiredArgsConstructor
+public class CatalogChangeJdbcRepository {
+    private static final RowMapper<CatalogChangeView> CHANGE_MAPPER = (rs, rowNum) -> new CatalogChangeView(
+            rs.getLong("seq"),
+            CatalogChange.EntityType.valueOf(rs.getString("entity_type")),
+            rs.getLong("entity_id"),
+            ChangeType.valueOf(rs.getString("change_type")),
+            rs.getObject("brand_id", Long.class),
+            rs.getString("brand_name"),
+            rs.getString("category") == null ? null : Category.valueOf(rs.getString("category")),
+            rs.getObject("price", Integer.class),
+            rs.getTimestamp("changed_at").toInstant());
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<CatalogChangeView> changes) {
+        MapSqlParameterSource[] batch = changes.stream()
+                .map(change -> new MapSqlParameterSource()
+                        .addValue("seq", change.sequence())
+                        .addValue("entityType", change.entityType().name())
+                        .addValue("entityId", change.entityId())
+                        .addValue("changeType", change.changeType().name())
+                        .addValue("brandId", change.brandId())
+                        .addValue("brandName", change.brandName())
+                        .addValue("category", change.category() == null ? null : change.category().name())
+                        .addValue("price", change.price())
+                        .addValue("changedAt", Timestamp.from(change.changedAt())))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO catalog_changes (seq, entity_type, entity_id, change_type, brand_id, brand_name, category, price, changed_at) " +
+                "VALUES (:seq, :entityType, :entityId, :changeType, :brandId, :brandName, :category, :price, :changedAt)", batch);
+    }
+
+    // after 초과 upTo 이하 시퀀스를 순서대로 최대 limit건
+    public List<CatalogChangeView> findAfter(long after, long upTo, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("after", after)
+                .addValue("upTo", upTo)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(
+                "SELECT * FROM catalog_changes WHERE seq > :after AND seq <= :upTo ORDER BY seq LIMIT :limit",
+                params, CHANGE_MAPPER);
+    }
+
+    public long findMaxSequence() {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(seq) FROM catalog_changes", new MapSqlParameterSource(), Long.class);
+        return max == null ? 0 : max;
+    }
+
+    // 남아 있는 가장 작은 시퀀스 바로 앞까지는 지워진 것으로 본다. 비어 있으면 0
+    public long findPurgedUpTo() {
+        Long min = jdbcTemplate.queryForObject("SELECT MIN(seq) FROM catalog_changes", new MapSqlParameterSource(), Long.class);
+        return min == null ? 0 : min - 1;
+    }
+
+    // cutoff 이전에 기록된 마지막 시퀀스. 없으면 0
+    public long findMaxSequenceChangedBefore(Instant cutoff) {
+        Long max = jdbcTemplate.queryForObject(
+                "SELECT MAX(seq) FROM catalog_changes WHERE changed_at < :cutoff",
+                new MapSqlParameterSource("cutoff", Timestamp.from(cutoff)), Long.class);
+        return max == null ? 0 : max;
+    }
+
+    public int deleteUpTo(long sequence) {
+        return jdbcTemplate.update("DELETE FROM catalog_changes WHERE seq <= :seq",
+                new MapSqlParameterSource("seq", sequence));
+    }
+}
@@ -0,0 +1,83 @@
+package org.service.brandcody.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.service.brandcody.domain.Category;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// 가격 변경용 JDBC 접근. 엔티티를 적재하지 않고 버전 조건 UPDATE를 배치로 실행하거나 단일 UPDATE로 원자적으로 변경한다.
+@Repository
+@RequiredArgsConstructor
+public class ProductPriceJdbcRepository {
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    private static final String SELECT_PRICE_ROWS =
+            "SELECT p.id, p.version, p.brand_id, b.name AS brand_name, p.category, p.price " +
+            "FROM products p JOIN brands b ON b.id = p.brand_id ";
+
+    private static final RowMapper<PriceRow> PRICE_ROW_MAPPER = (rs, rowNum) -> new PriceRow(
+            rs.getLong("id"),
+            rs.getLong("version"),
+            rs.getLong("brand_id"),
+            rs.getString("brand_name"),
+            Category.valueOf(rs.getString("category")),
+            rs.getInt("price"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<PriceRow> findByIds(Collection<Long> ids) {
+        return findIn(SELECT_PRICE_ROWS + "WHERE p.id IN (:ids)", ids);
+    }
+
+    public List<PriceRow> findByBrandIds(Collection<Long> brandIds) {
+        return findIn(SELECT_PRICE_ROWS + "WHERE p.brand_id IN (:ids)", brandIds);
+    }
+
+    // 항목별 반영 건수(0이면 버전 충돌 또는 삭제됨)를 요청 순서대로 반환한다
+    public int[] updatePrices(List<VersionedPriceUpdate> updates) {
+        MapSqlParameterSource[] batch = updates.stream()
+                .map(update -> new MapSqlParameterSource()
+                        .addValue("id", update.id())
+                        .addValue("price", update.price())
+                        .addValue("version", update.expectedVersion()))
+                .toArray(MapSqlParameterSource[]::new);
+        return jdbcTemplate.batchUpdate(
+                "UPDATE products SET price = :price, version = version + 1 WHERE id = :id AND version = :version", batch);
+    }
+
+    // 조회 없이 단일 UPDATE로 가격을 바꾸고 반영된 행을 돌려준다. 상품이 없으면 빈 값.
+    // H2/MySQL에는 UPDATE ... RETURNING이 없으므로, UPDATE가 잡은 행 잠금이 유지되는 같은 트랜잭션 안에서 다시 읽는다.
+    public Optional<PriceRow> updatePriceAtomically(Long id, int price) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("price", price);
+        int updated = jdbcTemplate.update("UPDATE products SET price = :price, version = version + 1 WHERE id = :id", params);
+        if (updated == 0) {
+            return Optional.empty();
+        }
+        return jdbcTemplate.query(SELECT_PRICE_ROWS + "WHERE p.id = :id", params, PRICE_ROW_MAPPER).stream().findFirst();
+    }
+
+    private List<PriceRow> findIn(String sql, Collection<Long> ids) {
+        List<Long> values = List.copyOf(ids);
+        List<PriceRow> rows = new ArrayList<>(values.size());
+        for (int from = 0; from < values.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = values.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, values.size()));
+            rows.addAll(jdbcTemplate.query(sql, new MapSqlParameterSource("ids", chunk), PRICE_ROW_MAPPER));
+        }
+        return rows;
+    }
+
+    public record PriceRow(Long id, Long version, Long brandId, String brandName, Category category, int price) {
+    }
+
+    public record VersionedPriceUpdate(Long id, int price, Long expectedVersion) {
+    }
+}
@@ -1,15 +1,22 @@
 package org.service.brandcody.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.service.brandcody.domain.Category;
 import org.service.brandcody.domain.Product;
 import org.service.brandcody.dto.CategoryBrandPriceDto;
+import org.service.brandcody.dto.ProductView;
+import org.service.brandcody.index.PriceEntry;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
     List<Product> findByBrandIdOrderByCategory(Long brandId);
@@ -37,4 +44,41 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT new org.service.brandcody.dto.CategoryBrandPriceDto(p.category, b.name, p.price) FROM Product p JOIN p.brand b " +
             "WHERE p.category = :category AND p.price = (SELECT MAX(p2.price) FROM Product p2 WHERE p2.category = :category)")
     List<CategoryBrandPriceDto> findHighestPriceByCategory(@Param("category") Category category);
+
+    // 인메모리 가격 인덱스 적재용 전체 상품 가격 조회 쿼리
+    @Query("SELECT new org.service.brandcody.index.PriceEntry(p.id, b.id, b.name, p.category, p.price, p.version) FROM Product p JOIN p.brand b")
+    List<PriceEntry> findAllPriceEntries();
+
+    // 캐시용 읽기 모델 조회 쿼리 (엔티티 대신 브랜드명을 포함한 프로젝션)
+    @Query("SELECT new org.service.brandcody.dto.ProductView(p.id, b.id, b.name, p.category, p.price, p.version) FROM Product p JOIN p.brand b " +
+            "ORDER BY p.id")
+    List<ProductView> findAllViews();
+
+    @Query("SELECT new org.service.brandcody.dto.ProductView(p.id, b.id, b.name, p.category, p.price, p.version) FROM Product p JOIN p.brand b " +
+            "WHERE p.id = :id")
+    Optional<ProductView> findViewById(@Param("id") Long id);
+
+    @Query("SELECT new org.service.brandcody.dto.ProductView(p.id, b.id, b.name, p.category, p.price, p.version) FROM Product p JOIN p.brand b " +
+            "WHERE b.id = :brandId ORDER BY p.category")
+    List<ProductView> findViewsByBrandId(@Param("brandId") Long brandId);
+
+    @Query("SELECT new org.service.brandcody.dto.ProductView(p.id, b.id, b.name, p.category, p.price, p.version) FROM Product p JOIN p.brand b " +
+            "WHERE b.id = :brandId AND p.category = :category")
+    List<ProductView> findViewsByBrandIdAndCategory(@Param("brandId") Long brandId, @Param("category") Category category);
+
+    default Optional<ProductView> findCheapestViewByBrandAndCategory(Long brandId, Category category) {
+        return findViewsByBrandIdAndCategory(brandId, category).stream()
+                .min(Comparator.comparingInt(ProductView::price));
+    }
+
+    // ID 키셋 페이지 조회 (after 이후 ID 순)
+    @Query("SELECT new org.service.brandcody.dto.ProductView(p.id, b.id, b.name, p.category, p.price, p.version) FROM Product p JOIN p.brand b " +
+            "WHERE p.id > :after ORDER BY p.id")
+    List<ProductView> findPageAfter(@Param("after") long after, Pageable pageable);
+
+    // 전체 상품 스트리밍 조회. 호출하는 쪽의 트랜잭션 안에서 소비하고 닫아야 한다
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new org.service.brandcody.dto.ProductView(p.id, b.id, b.name, p.category, p.price, p.version) FROM Product p JOIN p.brand b " +
+            "ORDER BY p.id")
+    Stream<ProductView> streamAll();
 }
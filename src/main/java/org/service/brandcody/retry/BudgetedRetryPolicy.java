@@ -0,0 +1,58 @@
+package org.service.brandcody.retry;
+
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryPolicy;
+
+// 재시도 가능 여부는 위임 정책이 판단하고, 실제 재시도 직전에 전역 재시도 예산에서 토큰을 받는다.
+// RetryTemplate은 실패 후 백오프 전과 다음 시도 전에 canRetry를 두 번 부르므로 재시도 회차당 한 번만 토큰을 쓴다.
+public class BudgetedRetryPolicy implements RetryPolicy {
+    // 예산 부족으로 재시도를 거절한 경우 컨텍스트에 남기는 속성 (메트릭 구분용)
+    public static final String BUDGET_REJECTED = "brandcody.retry.budgetRejected";
+    private static final String GRANTED_RETRY = "brandcody.retry.grantedRetry";
+
+    private final RetryPolicy delegate;
+    private final RetryBudget budget;
+
+    public BudgetedRetryPolicy(RetryPolicy delegate, RetryBudget budget) {
+        this.delegate = delegate;
+        this.budget = budget;
+    }
+
+    @Override
+    public boolean canRetry(RetryContext context) {
+        if (!delegate.canRetry(context)) {
+            return false;
+        }
+        int retryCount = context.getRetryCount();
+        if (retryCount == 0) {
+            return true;
+        }
+        if (context.hasAttribute(BUDGET_REJECTED)) {
+            return false;
+        }
+        if (Integer.valueOf(retryCount).equals(context.getAttribute(GRANTED_RETRY))) {
+            return true;
+        }
+        if (budget.tryAcquire()) {
+            context.setAttribute(GRANTED_RETRY, retryCount);
+            return true;
+        }
+        context.setAttribute(BUDGET_REJECTED, true);
+        return false;
+    }
+
+    @Override
+    public RetryContext open(RetryContext parent) {
+        return delegate.open(parent);
+    }
+
+    @Override
+    public void close(RetryContext context) {
+        delegate.close(context);
+    }
+
+    @Override
+    public void registerThrowable(RetryContext context, Throwable throwable) {
+        delegate.registerThrowable(context, throwable);
+    }
+}
@@ -3,22 +3,28 @@ package org.service.brandcody.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.service.brandcody.config.CacheConfig;
+import org.service.brandcody.config.RetryConfig;
 import org.service.brandcody.domain.Brand;
-import org.service.brandcody.dto.BrandTotalProjection;
+import org.service.brandcody.dto.BrandExclusions;
+import org.service.brandcody.dto.BrandView;
+import org.service.brandcody.dto.CursorPage;
+import org.service.brandcody.event.BrandChangedEvent;
+import org.service.brandcody.index.BrandTotal;
+import org.service.brandcody.index.PricingSnapshotHolder;
 import org.service.brandcody.repository.BrandRepository;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
-import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -26,63 +32,72 @@ import java.util.NoSuchElementException;
 @Transactional(readOnly = true)
 public class BrandService {
     private final BrandRepository brandRepository;
+    private final PricingSnapshotHolder pricingSnapshotHolder;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Cacheable(CacheConfig.BRAND_CACHE)
-    public List<Brand> getAllBrands() {
+    @Cacheable(value = CacheConfig.BRAND_CACHE, sync = true)
+    public List<BrandView> getAllBrands() {
         log.debug("Fetching all brands from database");
-        return brandRepository.findAll();
+        return brandRepository.findAllViews();
+    }
+
+    // 전체 목록 대신 페이지 단위로 캐시한다
+    @Cacheable(value = CacheConfig.BRAND_PAGE_CACHE, key = "T(org.service.brandcody.cache.CacheKeys).page(#after, #size)", sync = true)
+    public CursorPage<BrandView> getBrandPage(long after, int size) {
+        log.debug("Fetching brand page after id: {} with size: {}", after, size);
+        CursorPage.validateSize(size);
+        return CursorPage.of(brandRepository.findPageAfter(after, PageRequest.of(0, size + 1)), size, BrandView::id);
+    }
+
+    // 트랜잭션이 열린 동안 한 건씩 전달하므로 전체 목록을 메모리에 올리지 않는다
+    public void streamBrands(Consumer<BrandView> consumer) {
+        log.debug("Streaming all brands");
+        try (Stream<BrandView> brands = brandRepository.streamAll()) {
+            brands.forEach(consumer);
+        }
     }
 
     @Cacheable(value = CacheConfig.BRAND_BY_ID_CACHE, key = "#id")
-    public Brand getBrandById(Long id) {
+    public BrandView getBrandById(Long id) {
         log.debug("Fetching brand with id: {}", id);
-        return brandRepository.findById(id)
+        return brandRepository.findViewById(id)
                 .orElseThrow(() -> new NoSuchElementException("Brand not found with id: " + id));
     }
 
     @Cacheable(value = CacheConfig.BRAND_BY_NAME_CACHE, key = "#name")
-    public Brand getBrandByName(String name) {
+    public BrandView getBrandByName(String name) {
         log.debug("Fetching brand with name: {}", name);
-        return brandRepository.findByName(name)
+        return brandRepository.findViewByName(name)
                 .orElseThrow(() -> new NoSuchElementException("Brand not found with name: " + name));
     }
 
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = CacheConfig.BRAND_CACHE, allEntries = true),
-        @CacheEvict(value = CacheConfig.LOWEST_PRICE_BRAND_CACHE, allEntries = true)
-    })
     public Brand createBrand(String name) {
         log.debug("Creating new brand with name: {}", name);
         try {
             Brand brand = new Brand();
             brand.setName(name);
-            return brandRepository.save(brand);
+            Brand saved = brandRepository.save(brand);
+            eventPublisher.publishEvent(BrandChangedEvent.created(saved.getId(), name));
+            return saved;
         } catch (DataIntegrityViolationException e) {
             log.warn("Attempt to create duplicate brand with name: {}", name);
             throw new IllegalArgumentException("Brand with name '" + name + "' already exists");
         }
     }
 
-    @Retryable(
-        value = {ObjectOptimisticLockingFailureException.class},
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 500)
-    )
+    @Retryable(interceptor = RetryConfig.OPTIMISTIC_LOCK_RETRY)
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = CacheConfig.BRAND_CACHE, allEntries = true),
-        @CacheEvict(value = CacheConfig.BRAND_BY_ID_CACHE, key = "#id"),
-        @CacheEvict(value = CacheConfig.BRAND_BY_NAME_CACHE, allEntries = true),
-        @CacheEvict(value = CacheConfig.LOWEST_PRICE_BRAND_CACHE, allEntries = true)
-    })
     public Brand updateBrand(Long id, String name) {
         log.debug("Attempting to update brand with id: {} to name: {}", id, name);
-        Brand brand = getBrandById(id);
+        Brand brand = findBrand(id);
+        String previousName = brand.getName();
         
         try {
             brand.setName(name);
-            return brandRepository.save(brand);
+            Brand saved = brandRepository.save(brand);
+            eventPublisher.publishEvent(BrandChangedEvent.renamed(id, previousName, name));
+            return saved;
         } catch (DataIntegrityViolationException e) {
             log.warn("Attempt to update brand to a duplicate name: {}", name);
             throw new IllegalArgumentException("Brand with name '" + name + "' already exists");
@@ -92,45 +107,39 @@ public class BrandService {
         }
     }
 
-    @Retryable(
-        value = {ObjectOptimisticLockingFailureException.class},
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 500)
-    )
+    @Retryable(interceptor = RetryConfig.OPTIMISTIC_LOCK_RETRY)
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = CacheConfig.BRAND_CACHE, allEntries = true),
-        @CacheEvict(value = CacheConfig.BRAND_BY_ID_CACHE, key = "#id"),
-        @CacheEvict(value = CacheConfig.BRAND_BY_NAME_CACHE, allEntries = true),
-        @CacheEvict(value = CacheConfig.LOWEST_PRICE_BRAND_CACHE, allEntries = true),
-        @CacheEvict(value = CacheConfig.PRODUCTS_BY_BRAND_CACHE, key = "#id")
-    })
     public void deleteBrand(Long id) {
         log.debug("Attempting to delete brand with id: {}", id);
-        Brand brand = getBrandById(id);
+        Brand brand = findBrand(id);
         try {
             brandRepository.delete(brand);
+            eventPublisher.publishEvent(BrandChangedEvent.deleted(id, brand.getName()));
         } catch (ObjectOptimisticLockingFailureException e) {
             log.warn("Optimistic locking failure when deleting brand id: {}. Retry attempt will follow.", id);
             throw e;
         }
     }
 
-    @Cacheable(CacheConfig.LOWEST_PRICE_BRAND_CACHE)
-    public BrandTotalProjection findBrandWithLowestTotalPrice() {
-        log.debug("Calculating brand with lowest total price");
-        List<BrandTotalProjection> result = brandRepository.findBrandWithLowestTotalPrice(PageRequest.of(0, 1));
-        
-        if (result.isEmpty()) {
-            throw new NoSuchElementException("모든 카테고리의 상품을 보유한 브랜드를 찾을 수 없습니다. 각 브랜드는 모든 카테고리(상의, 아우터, 바지, 스니커즈, 가방, 모자, 양말, 액세서리)의 상품을 가지고 있어야 합니다.");
-        }
-        
-        return result.getFirst();
+    // 쓰기 경로는 캐시된 읽기 모델 대신 관리 상태의 엔티티를 조회한다
+    private Brand findBrand(Long id) {
+        return brandRepository.findById(id)
+                .orElseThrow(() -> new NoSuchElementException("Brand not found with id: " + id));
+    }
+
+    // 스냅샷이 브랜드명과 카테고리별 최저가를 함께 들고 있으므로 브랜드/상품을 추가로 조회하지 않는다
+    public BrandTotal findBrandWithLowestTotalPrice() {
+        return pricingSnapshotHolder.current().lowestTotalBrand()
+                .orElseThrow(() -> new NoSuchElementException("모든 카테고리의 상품을 보유한 브랜드를 찾을 수 없습니다. 각 브랜드는 모든 카테고리(상의, 아우터, 바지, 스니커즈, 가방, 모자, 양말, 액세서리)의 상품을 가지고 있어야 합니다."));
+    }
+
+    // 총액 순위에서 제외 브랜드만 건너뛰므로 제외 목록 길이에 비례한다
+    public BrandTotal findBrandWithLowestTotalPriceExcluding(BrandExclusions exclusions) {
+        return pricingSnapshotHolder.current().lowestTotalBrandExcluding(exclusions)
+                .orElseThrow(() -> new NoSuchElementException("제외한 브랜드를 뺀 나머지 중 모든 카테고리의 상품을 보유한 브랜드를 찾을 수 없습니다."));
     }
 
-    @Cacheable(CacheConfig.BRAND_CACHE)
-    public List<BrandTotalProjection> findAllBrandsWithTotalPrice() {
-        log.debug("Fetching all brands with total price");
-        return brandRepository.findAllBrandsWithTotalPrice();
+    public List<BrandTotal> findAllBrandsWithTotalPrice() {
+        return pricingSnapshotHolder.current().brandRanking();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,145 @@
+package org.service.brandcody.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.dto.request.PriceUpdateItem;
+import org.service.brandcody.dto.response.BulkPriceUpdateResponse;
+import org.service.brandcody.dto.response.BulkPriceUpdateResponse.Conflict;
+import org.service.brandcody.dto.response.BulkPriceUpdateResponse.Reason;
+import org.service.brandcody.event.ChangeType;
+import org.service.brandcody.event.ProductChangedEvent;
+import org.service.brandcody.repository.ProductPriceJdbcRepository;
+import org.service.brandcody.repository.ProductPriceJdbcRepository.PriceRow;
+import org.service.brandcody.repository.ProductPriceJdbcRepository.VersionedPriceUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 야간 가격 일괄 변경. 항목별 재시도 없이 버전 조건 UPDATE를 배치로 실행하고 충돌 항목은 결과로 알려준다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkPriceUpdateService {
+    private final ProductPriceJdbcRepository productPriceJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public BulkPriceUpdateResponse updatePrices(List<PriceUpdateItem> items) {
+        log.debug("Applying bulk price update for {} items", items.size());
+        items.forEach(BulkPriceUpdateService::validate);
+
+        Map<Long, PriceRow> rowsById = findRowsById(items);
+        Map<BrandCategory, PriceRow> cheapestByBrandCategory = findCheapestByBrandCategory(items);
+
+        List<Conflict> conflicts = new ArrayList<>();
+        List<Integer> pendingIndexes = new ArrayList<>();
+        List<PriceRow> pendingRows = new ArrayList<>();
+        List<VersionedPriceUpdate> updates = new ArrayList<>();
+        Set<Long> targetedIds = new HashSet<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            PriceUpdateItem item = items.get(i);
+            PriceRow row = item.getId() != null
+                    ? rowsById.get(item.getId())
+                    : cheapestByBrandCategory.get(new BrandCategory(item.getBrandId(), item.getCategory()));
+            if (row == null) {
+                conflicts.add(conflict(i, item, null, Reason.NOT_FOUND));
+                continue;
+            }
+            // 같은 상품을 두 번 지정하면 어느 가격이 최종인지 모호하므로 뒤의 항목은 반영하지 않는다
+            if (!targetedIds.add(row.id())) {
+                conflicts.add(conflict(i, item, row, Reason.DUPLICATE_TARGET));
+                continue;
+            }
+            Long expectedVersion = item.getVersion() != null ? item.getVersion() : row.version();
+            pendingIndexes.add(i);
+            pendingRows.add(row);
+            updates.add(new VersionedPriceUpdate(row.id(), item.getPrice(), expectedVersion));
+        }
+
+        int updated = 0;
+        int[] counts = updates.isEmpty() ? new int[0] : productPriceJdbcRepository.updatePrices(updates);
+        for (int u = 0; u < counts.length; u++) {
+            PriceRow row = pendingRows.get(u);
+            int index = pendingIndexes.get(u);
+            if (counts[u] == 0) {
+                conflicts.add(conflict(index, items.get(index), row, Reason.VERSION_CONFLICT));
+                continue;
+            }
+            updated++;
+            // 트랜잭션 단위로 모아 커밋 후 한 번에 무효화된다. 반영된 행은 기대 버전에서 하나 올라간다
+            VersionedPriceUpdate update = updates.get(u);
+            eventPublisher.publishEvent(new ProductChangedEvent(
+                    ChangeType.UPDATED, row.id(), row.brandId(), row.brandName(), row.category(), update.price(),
+                    update.expectedVersion() + 1));
+        }
+
+        conflicts.sort(Comparator.comparingInt(Conflict::getIndex));
+        log.info("Bulk price update applied {} of {} items ({} conflicts)", updated, items.size(), conflicts.size());
+        return BulkPriceUpdateResponse.builder()
+                .requestedCount(items.size())
+                .updatedCount(updated)
+                .conflicts(conflicts)
+                .build();
+    }
+
+    private Map<Long, PriceRow> findRowsById(List<PriceUpdateItem> items) {
+        Set<Long> ids = items.stream()
+                .map(PriceUpdateItem::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return productPriceJdbcRepository.findByIds(ids).stream()
+                .collect(Collectors.toMap(PriceRow::id, Function.identity()));
+    }
+
+    // 브랜드-카테고리 지정 항목은 단건 API와 같이 해당 카테고리의 최저가 상품을 변경한다
+    private Map<BrandCategory, PriceRow> findCheapestByBrandCategory(List<PriceUpdateItem> items) {
+        Set<Long> brandIds = items.stream()
+                .filter(item -> item.getId() == null)
+                .map(PriceUpdateItem::getBrandId)
+                .collect(Collectors.toSet());
+        if (brandIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<BrandCategory, PriceRow> cheapest = new HashMap<>();
+        Comparator<PriceRow> priceOrder = Comparator.comparingInt(PriceRow::price).thenComparing(PriceRow::id);
+        for (PriceRow row : productPriceJdbcRepository.findByBrandIds(brandIds)) {
+            cheapest.merge(new BrandCategory(row.brandId(), row.category()), row,
+                    (current, candidate) -> priceOrder.compare(candidate, current) < 0 ? candidate : current);
+        }
+        return cheapest;
+    }
+
+    private static void validate(PriceUpdateItem item) {
+        if (item.getId() == null && (item.getBrandId() == null || item.getCategory() == null)) {
+            throw new IllegalArgumentException("Each item requires either id or brandId with category");
+        }
+    }
+
+    private static Conflict conflict(int index, PriceUpdateItem item, PriceRow row, Reason reason) {
+        return new Conflict(
+                index,
+                row != null ? row.id() : item.getId(),
+                row != null ? row.brandId() : item.getBrandId(),
+                row != null ? row.category() : item.getCategory(),
+                reason);
+    }
+
+    private record BrandCategory(Long brandId, Category category) {
+    }
+}
@@ -0,0 +1,220 @@
+package org.service.brandcody.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.service.brandcody.config.ChangeLogProperties;
+import org.service.brandcody.domain.CatalogChange;
+import org.service.brandcody.dto.CatalogChangeView;
+import org.service.brandcody.dto.CursorPage;
+import org.service.brandcody.dto.response.CatalogChangeResponse;
+import org.service.brandcody.dto.response.CatalogChangesResponse;
+import org.service.brandcody.event.BrandChangedEvent;
+import org.service.brandcody.event.CatalogChangedEvent;
+import org.service.brandcody.event.ChangeType;
+import org.service.brandcody.event.ProductChangedEvent;
+import org.service.brandcody.event.ProductsImportedEvent;
+import org.service.brandcody.exception.ChangesExpiredException;
+import org.service.brandcody.repository.CatalogChangeJdbcRepository;
+import org.service.brandcody.repository.ProductPriceJdbcRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 상품/브랜드 변경을 같은 트랜잭션 안에서 append-only 변경 기록으로 남기고, 시퀀스 이후의 변경을 돌려준다.
+// 시퀀스는 커밋 직전에 할당하지만 커밋 순서는 할당 순서와 다를 수 있으므로, 아직 끝나지 않은 트랜잭션의
+// 가장 작은 시퀀스 바로 앞까지만 조회에 내보낸다. 그래야 클라이언트가 다음 since로 넘긴 값 아래에 늦게 커밋된 변경이 생기지 않는다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogChangeLog {
+    private final CatalogChangeJdbcRepository catalogChangeJdbcRepository;
+    private final ProductPriceJdbcRepository productPriceJdbcRepository;
+    private final ChangeLogProperties properties;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // 시퀀스를 할당받았지만 아직 커밋/롤백되지 않은 블록의 시작 시퀀스
+    private final TreeSet<Long> inFlight = new TreeSet<>();
+    // -1이면 아직 테이블의 마지막 시퀀스를 읽지 않은 상태
+    private long lastAllocated = -1;
+    // 보존 기간이 지나 지워진 마지막 시퀀스. 재시작 후에는 테이블에 남은 가장 작은 시퀀스에서 다시 읽는다
+    private volatile long purgedUpTo;
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            PendingBatch batch = new PendingBatch();
+            batch.events.add(event);
+            try {
+                write(batch);
+            } finally {
+                release(batch);
+            }
+            return;
+        }
+        currentBatch().events.add(event);
+    }
+
+    public CatalogChangesResponse findChanges(long since, int limit) {
+        CursorPage.validateSize(limit);
+        long latest = visibleUpTo();
+        if (since < purgedUpTo) {
+            throw new ChangesExpiredException("Changes after sequence " + since
+                    + " are no longer retained; reload the full catalog and sync from latestSequence");
+        }
+        List<CatalogChangeView> fetched = catalogChangeJdbcRepository.findAfter(since, latest, limit + 1);
+        boolean hasMore = fetched.size() > limit;
+        List<CatalogChangeView> changes = hasMore ? fetched.subList(0, limit) : fetched;
+        long nextSince = changes.isEmpty() ? Math.max(since, 0) : changes.getLast().sequence();
+        return new CatalogChangesResponse(
+                changes.stream().map(CatalogChangeResponse::from).toList(),
+                nextSince,
+                hasMore,
+                latest);
+    }
+
+    @Scheduled(fixedDelayString = "${brandcody.changes.purge-interval:1h}",
+            initialDelayString = "${brandcody.changes.purge-interval:1h}")
+    public void purgeExpired() {
+        purgeChangedBefore(Instant.now().minus(properties.getRetention()));
+    }
+
+    // 마지막 기록은 지우지 않고 남긴다. 재시작 후 남은 기록의 처음과 끝에서 지워진 경계와 다음 시퀀스를 다시 읽기 위해서다
+    public int purgeChangedBefore(Instant cutoff) {
+        long upTo = Math.min(catalogChangeJdbcRepository.findMaxSequenceChangedBefore(cutoff),
+                catalogChangeJdbcRepository.findMaxSequence() - 1);
+        if (upTo <= 0) {
+            return 0;
+        }
+        // 조회가 먼저 410을 돌려주도록 지우기 전에 경계를 올린다
+        purgedUpTo = Math.max(purgedUpTo, upTo);
+        int deleted = catalogChangeJdbcRepository.deleteUpTo(upTo);
+        log.info("Purged {} catalog changes up to sequence {}", deleted, upTo);
+        return deleted;
+    }
+
+    private long visibleUpTo() {
+        lock.lock();
+        try {
+            seed();
+            return inFlight.isEmpty() ? lastAllocated : inFlight.first() - 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(PendingBatch batch) {
+        List<CatalogChangeView> unsequenced = toChanges(batch.events);
+        if (unsequenced.isEmpty()) {
+            return;
+        }
+        Instant changedAt = Instant.now();
+        long first = allocate(batch, unsequenced.size());
+        List<CatalogChangeView> changes = new ArrayList<>(unsequenced.size());
+        for (int i = 0; i < unsequenced.size(); i++) {
+            CatalogChangeView change = unsequenced.get(i);
+            changes.add(new CatalogChangeView(first + i, change.entityType(), change.entityId(), change.changeType(),
+                    change.brandId(), change.brandName(), change.category(), change.price(), changedAt));
+        }
+        catalogChangeJdbcRepository.insertAll(changes);
+        log.debug("Recorded {} catalog changes from sequence {}", changes.size(), first);
+    }
+
+    // 한 트랜잭션의 변경에는 연속된 시퀀스 블록을 준다
+    private long allocate(PendingBatch batch, int count) {
+        lock.lock();
+        try {
+            seed();
+            long first = lastAllocated + 1;
+            lastAllocated += count;
+            inFlight.add(first);
+            batch.allocatedFrom = first;
+            return first;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(PendingBatch batch) {
+        if (batch.allocatedFrom == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            inFlight.remove(batch.allocatedFrom);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 잠금을 잡은 상태에서 호출한다
+    private void seed() {
+        if (lastAllocated < 0) {
+            lastAllocated = catalogChangeJdbcRepository.findMaxSequence();
+            purgedUpTo = Math.max(purgedUpTo, catalogChangeJdbcRepository.findPurgedUpTo());
+        }
+    }
+
+    private List<CatalogChangeView> toChanges(List<CatalogChangedEvent> events) {
+        List<CatalogChangeView> changes = new ArrayList<>();
+        for (CatalogChangedEvent event : events) {
+            switch (event) {
+                case ProductChangedEvent product -> changes.add(new CatalogChangeView(0, CatalogChange.EntityType.PRODUCT,
+                        product.productId(), product.type(), product.brandId(), product.brandName(),
+                        product.category(), product.price(), null));
+                case BrandChangedEvent brand -> changes.add(new CatalogChangeView(0, CatalogChange.EntityType.BRAND,
+                        brand.brandId(), brand.type(), brand.brandId(), brand.brandName(), null, null, null));
+                case ProductsImportedEvent imported -> productPriceJdbcRepository.findByIds(imported.productIds())
+                        .forEach(row -> changes.add(new CatalogChangeView(0, CatalogChange.EntityType.PRODUCT,
+                                row.id(), ChangeType.CREATED, row.brandId(), row.brandName(), row.category(), row.price(), null)));
+            }
+        }
+        return changes;
+    }
+
+    private PendingBatch currentBatch() {
+        PendingBatch batch = (PendingBatch) TransactionSynchronizationManager.getResource(this);
+        if (batch != null) {
+            return batch;
+        }
+
+        PendingBatch created = new PendingBatch();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResource(CatalogChangeLog.this);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(CatalogChangeLog.this, created);
+            }
+
+            // 커밋 직전에 같은 트랜잭션 안에서 기록하므로 변경과 기록은 함께 커밋되거나 함께 롤백된다
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                write(created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                release(created);
+                TransactionSynchronizationManager.unbindResourceIfPossible(CatalogChangeLog.this);
+            }
+        });
+        return created;
+    }
+
+    private static final class PendingBatch {
+        private final List<CatalogChangedEvent> events = new ArrayList<>();
+        private Long allocatedFrom;
+    }
+}
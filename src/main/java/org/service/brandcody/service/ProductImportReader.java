@@ -0,0 +1,113 @@
+package org.service.brandcody.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.dto.request.ProductImportItem;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// 요청 본문을 한 번에 메모리에 올리지 않고 항목 단위로 읽는다
+public final class ProductImportReader {
+    private static final String CSV_HEADER = "brandId,category,price";
+
+    private ProductImportReader() {
+    }
+
+    // JSON 배열([{"brandId":1,"category":"TOP","price":10000}, ...])
+    public static Iterator<ProductImportItem> fromJson(InputStream body, ObjectMapper objectMapper) {
+        try {
+            MappingIterator<ProductImportItem> items = objectMapper.readerFor(ProductImportItem.class).readValues(body);
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    try {
+                        return items.hasNextValue();
+                    } catch (IOException e) {
+                        throw new IllegalArgumentException("Malformed product import JSON: " + e.getMessage());
+                    }
+                }
+
+                @Override
+                public ProductImportItem next() {
+                    try {
+                        return items.nextValue();
+                    } catch (IOException e) {
+                        throw new IllegalArgumentException("Malformed product import JSON: " + e.getMessage());
+                    }
+                }
+            };
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed product import JSON: " + e.getMessage());
+        }
+    }
+
+    // 헤더(brandId,category,price) 다음 줄부터 한 줄에 한 상품
+    public static Iterator<ProductImportItem> fromCsv(InputStream body) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String header = readLine(reader);
+        if (header == null || !header.strip().replace(" ", "").equalsIgnoreCase(CSV_HEADER)) {
+            throw new IllegalArgumentException("CSV header must be: " + CSV_HEADER);
+        }
+
+        return new Iterator<>() {
+            private int lineNumber = 1;
+            private String nextLine = advance();
+
+            @Override
+            public boolean hasNext() {
+                return nextLine != null;
+            }
+
+            @Override
+            public ProductImportItem next() {
+                if (nextLine == null) {
+                    throw new NoSuchElementException();
+                }
+                ProductImportItem item = parseCsvLine(nextLine, lineNumber);
+                nextLine = advance();
+                return item;
+            }
+
+            private String advance() {
+                String line;
+                do {
+                    line = readLine(reader);
+                    lineNumber++;
+                } while (line != null && line.isBlank());
+                return line;
+            }
+        };
+    }
+
+    private static ProductImportItem parseCsvLine(String line, int lineNumber) {
+        String[] columns = line.split(",", -1);
+        if (columns.length != 3) {
+            throw new IllegalArgumentException("Invalid CSV line " + lineNumber + ": expected 3 columns but got " + columns.length);
+        }
+        try {
+            Long brandId = Long.parseLong(columns[0].strip());
+            Category category = Category.fromDisplayName(columns[1].strip())
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown category: " + columns[1].strip()));
+            Integer price = Integer.parseInt(columns[2].strip());
+            return new ProductImportItem(brandId, category, price);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid CSV line " + lineNumber + ": " + e.getMessage());
+        }
+    }
+
+    private static String readLine(BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.service.brandcody.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.service.brandcody.domain.Brand;
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.domain.Product;
+import org.service.brandcody.dto.request.ProductImportItem;
+import org.service.brandcody.dto.response.ProductImportResponse;
+import org.service.brandcody.event.ProductsImportedEvent;
+import org.service.brandcody.repository.BrandRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductImportService {
+    // hibernate.jdbc.batch_size의 배수로 flush 해 insert 배치를 꽉 채운다
+    private static final int FLUSH_SIZE = 1000;
+
+    private final BrandRepository brandRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public ProductImportResponse importProducts(Iterator<ProductImportItem> items) {
+        log.debug("Starting bulk product import");
+        long startedAt = System.nanoTime();
+        // 브랜드는 시작 시 한 번만 조회하고 이후에는 ID로 참조만 한다
+        Map<Long, Brand> brandsById = brandRepository.findAll().stream()
+                .collect(Collectors.toMap(Brand::getId, Function.identity()));
+
+        Set<Long> brandIds = new HashSet<>();
+        Set<Category> categories = EnumSet.noneOf(Category.class);
+        List<Long> productIds = new ArrayList<>();
+        int count = 0;
+        while (items.hasNext()) {
+            ProductImportItem item = items.next();
+            count++;
+            Brand brand = validate(item, count, brandsById);
+
+            Product product = new Product(item.getCategory(), item.getPrice());
+            product.setBrand(brand);
+            entityManager.persist(product);
+            productIds.add(product.getId());
+            brandIds.add(brand.getId());
+            categories.add(item.getCategory());
+
+            if (count % FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        if (count > 0) {
+            eventPublisher.publishEvent(new ProductsImportedEvent(brandIds, categories, productIds));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        log.info("Imported {} products for {} brands in {} ms", count, brandIds.size(), elapsedMillis);
+        return ProductImportResponse.builder()
+                .importedCount(count)
+                .brandCount(brandIds.size())
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    private static Brand validate(ProductImportItem item, int index, Map<Long, Brand> brandsById) {
+        if (item == null || item.getBrandId() == null || item.getCategory() == null || item.getPrice() == null) {
+            throw new IllegalArgumentException("Item " + index + ": brandId, category and price are required");
+        }
+        if (item.getPrice() < 0) {
+            throw new IllegalArgumentException("Item " + index + ": price must be at least 0");
+        }
+        Brand brand = brandsById.get(item.getBrandId());
+        if (brand == null) {
+            throw new IllegalArgumentException("Item " + index + ": brand not found with id: " + item.getBrandId());
+        }
+        return brand;
+    }
+}
@@ -3,18 +3,29 @@ package org.service.brandcody.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.service.brandcody.config.CacheConfig;
+import org.service.brandcody.config.RetryConfig;
 import org.service.brandcody.domain.Brand;
 import org.service.brandcody.domain.Category;
 import org.service.brandcody.domain.Product;
+import org.service.brandcody.dto.BrandExclusions;
 import org.service.brandcody.dto.CategoryBrandPriceDto;
+import org.service.brandcody.dto.CategoryOffers;
+import org.service.brandcody.dto.CategoryPriceRange;
+import org.service.brandcody.dto.CursorPage;
+import org.service.brandcody.dto.ProductView;
+import org.service.brandcody.event.ChangeType;
+import org.service.brandcody.event.ProductChangedEvent;
+import org.service.brandcody.exception.PreconditionFailedException;
+import org.service.brandcody.index.PricingSnapshotHolder;
 import org.service.brandcody.repository.BrandRepository;
+import org.service.brandcody.repository.ProductPriceJdbcRepository;
+import org.service.brandcody.repository.ProductPriceJdbcRepository.PriceRow;
 import org.service.brandcody.repository.ProductRepository;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
-import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +34,8 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -31,48 +44,58 @@ import java.util.Optional;
 public class ProductService {
     private final ProductRepository productRepository;
     private final BrandRepository brandRepository;
+    private final ProductPriceJdbcRepository productPriceJdbcRepository;
+    private final PricingSnapshotHolder pricingSnapshotHolder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Cacheable(CacheConfig.PRODUCT_CACHE)
-    public List<Product> getAllProducts() {
+    public List<ProductView> getAllProducts() {
         log.debug("Fetching all products from database");
-        return productRepository.findAll();
+        return productRepository.findAllViews();
     }
 
-    @Cacheable(value = CacheConfig.PRODUCT_BY_ID_CACHE, key = "#id")
-    public Product getProductById(Long id) {
+    // 전체 목록 대신 페이지 단위로 캐시한다
+    @Cacheable(value = CacheConfig.PRODUCT_PAGE_CACHE, key = "T(org.service.brandcody.cache.CacheKeys).page(#after, #size)", sync = true)
+    public CursorPage<ProductView> getProductPage(long after, int size) {
+        log.debug("Fetching product page after id: {} with size: {}", after, size);
+        CursorPage.validateSize(size);
+        return CursorPage.of(productRepository.findPageAfter(after, PageRequest.of(0, size + 1)), size, ProductView::id);
+    }
+
+    // 트랜잭션이 열린 동안 한 건씩 전달하므로 전체 목록을 메모리에 올리지 않는다
+    public void streamProducts(Consumer<ProductView> consumer) {
+        log.debug("Streaming all products");
+        try (Stream<ProductView> products = productRepository.streamAll()) {
+            products.forEach(consumer);
+        }
+    }
+
+    @Cacheable(value = CacheConfig.PRODUCT_BY_ID_CACHE, key = "#id", sync = true)
+    public ProductView getProductById(Long id) {
         log.debug("Fetching product with id: {}", id);
-        return productRepository.findById(id)
+        return productRepository.findViewById(id)
                 .orElseThrow(() -> new NoSuchElementException("Product not found with id: " + id));
     }
 
     @Cacheable(value = CacheConfig.PRODUCTS_BY_BRAND_CACHE, key = "#brandId")
-    public List<Product> getProductsByBrand(Long brandId) {
+    public List<ProductView> getProductsByBrand(Long brandId) {
         log.debug("Fetching products for brand id: {}", brandId);
-        return productRepository.findByBrandIdOrderByCategory(brandId);
+        return productRepository.findViewsByBrandId(brandId);
     }
 
-    @Cacheable(value = CacheConfig.PRODUCT_BY_BRAND_CATEGORY_CACHE, key = "#brandId + '-' + #category.name()")
-    public List<Product> getProductsByBrandAndCategory(Long brandId, Category category) {
+    @Cacheable(value = CacheConfig.PRODUCT_BY_BRAND_CATEGORY_CACHE, key = "T(org.service.brandcody.cache.CacheKeys).brandCategory(#brandId, #category)", sync = true)
+    public List<ProductView> getProductsByBrandAndCategory(Long brandId, Category category) {
         log.debug("Fetching products for brand id: {} and category: {}", brandId, category);
-        return productRepository.findByBrandIdAndCategory(brandId, category);
+        return productRepository.findViewsByBrandIdAndCategory(brandId, category);
     }
     
-    @Cacheable(value = CacheConfig.PRODUCT_BY_BRAND_CATEGORY_CACHE, key = "'cheapest-' + #brandId + '-' + #category.name()")
-    public Optional<Product> getCheapestProductByBrandAndCategory(Long brandId, Category category) {
+    @Cacheable(value = CacheConfig.CHEAPEST_PRODUCT_BY_BRAND_CATEGORY_CACHE, key = "T(org.service.brandcody.cache.CacheKeys).brandCategory(#brandId, #category)", sync = true)
+    public Optional<ProductView> getCheapestProductByBrandAndCategory(Long brandId, Category category) {
         log.debug("Fetching cheapest product for brand id: {} and category: {}", brandId, category);
-        return productRepository.findCheapestProductByBrandAndCategory(brandId, category);
+        return productRepository.findCheapestViewByBrandAndCategory(brandId, category);
     }
 
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = CacheConfig.PRODUCT_CACHE, allEntries = true),
-        @CacheEvict(value = CacheConfig.PRODUCTS_BY_BRAND_CACHE, key = "#brandId"),
-        @CacheEvict(value = CacheConfig.PRODUCT_BY_BRAND_CATEGORY_CACHE, key = "#brandId + '-' + #category.name()"),
-        @CacheEvict(value = CacheConfig.PRODUCT_BY_BRAND_CATEGORY_CACHE, key = "'cheapest-' + #brandId + '-' + #category.name()"),
-        @CacheEvict(value = CacheConfig.LOWEST_PRICE_BY_CATEGORY_CACHE, allEntries = true),
-        @CacheEvict(value = CacheConfig.HIGHEST_PRICE_BY_CATEGORY_CACHE, allEntries = true),
-        @CacheEvict(value = CacheConfig.LOWEST_PRICE_BRAND_CACHE, allEntries = true)
-    })
     public Product createProduct(Long brandId, Category category, Integer price) {
         log.debug("Creating new product for brand id: {} and category: {} with price: {}", brandId, category, price);
         Brand brand = brandRepository.findById(brandId)
@@ -80,51 +103,60 @@ public class ProductService {
 
         Product product = new Product(category, price);
         brand.addProduct(product);
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.of(ChangeType.CREATED, saved));
+        return saved;
     }
 
-    @Retryable(
-        value = {ObjectOptimisticLockingFailureException.class},
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 500)
-    )
+    @Retryable(interceptor = RetryConfig.OPTIMISTIC_LOCK_RETRY)
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = CacheConfig.PRODUCT_CACHE, allEntries = true),
-        @CacheEvict(value = CacheConfig.PRODUCT_BY_ID_CACHE, key = "#id"),
-        @CacheEvict(value = CacheConfig.PRODUCTS_BY_BRAND_CACHE, allEntries = true),
-        @CacheEvict(value = CacheConfig.PRODUCT_BY_BRAND_CATEGORY_CACHE, allEntries = true),
-        @CacheEvict(value = CacheConfig.LOWEST_PRICE_BY_CATEGORY_CACHE, allEntries = true),
-        @CacheEvict(value = CacheConfig.HIGHEST_PRICE_BY_CATEGORY_CACHE, allEntries = true),
-        @CacheEvict(value = CacheConfig.LOWEST_PRICE_BRAND_CACHE, allEntries = true)
-    })
     public Product updateProduct(Long id, Integer price) {
         log.debug("Attempting to update product with id: {} to price: {}", id, price);
-        Product product = getProductById(id);
+        Product product = findProduct(id);
         product.updatePrice(price);
         try {
-            return productRepository.save(product);
+            // 이벤트가 커밋될 버전을 싣도록 flush해 버전을 먼저 올린다
+            Product saved = productRepository.saveAndFlush(product);
+            eventPublisher.publishEvent(ProductChangedEvent.of(ChangeType.UPDATED, saved));
+            return saved;
         } catch (ObjectOptimisticLockingFailureException e) {
             log.warn("Optimistic locking failure when updating product id: {}. Retry attempt will follow.", id);
             throw e;
         }
     }
 
-    @Retryable(
-        value = {ObjectOptimisticLockingFailureException.class},
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 500)
-    )
+    // 마지막 요청 우선 가격 수정. 엔티티를 읽지 않고 단일 UPDATE로 가격과 버전을 함께 올리므로 낙관적 락 충돌과 재시도가 없다
+    @Transactional
+    public ProductView updatePriceAtomically(Long id, int price) {
+        log.debug("Atomically updating product with id: {} to price: {}", id, price);
+        PriceRow row = productPriceJdbcRepository.updatePriceAtomically(id, price)
+                .orElseThrow(() -> new NoSuchElementException("Product not found with id: " + id));
+        eventPublisher.publishEvent(new ProductChangedEvent(
+                ChangeType.UPDATED, row.id(), row.brandId(), row.brandName(), row.category(), row.price(), row.version()));
+        return new ProductView(row.id(), row.brandId(), row.brandName(), row.category(), row.price(), row.version());
+    }
+
+    // If-Match 조건부 수정. 클라이언트가 본 버전과 다르면 재시도하지 않고 412로 돌려보낸다
+    @Transactional
+    public Product updateProductIfVersionMatches(Long id, Integer price, long expectedVersion) {
+        log.debug("Conditionally updating product with id: {} to price: {} at version: {}", id, price, expectedVersion);
+        Product product = findProduct(id);
+        if (product.getVersion() == null || product.getVersion() != expectedVersion) {
+            throw new PreconditionFailedException(
+                    "Product version mismatch for id: " + id + " (expected " + expectedVersion + ", current " + product.getVersion() + ")");
+        }
+        product.updatePrice(price);
+        try {
+            Product saved = productRepository.saveAndFlush(product);
+            eventPublisher.publishEvent(ProductChangedEvent.of(ChangeType.UPDATED, saved));
+            return saved;
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new PreconditionFailedException("Product was modified concurrently, id: " + id);
+        }
+    }
+
+    @Retryable(interceptor = RetryConfig.OPTIMISTIC_LOCK_RETRY)
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = CacheConfig.PRODUCT_CACHE, allEntries = true),
-        @CacheEvict(value = CacheConfig.PRODUCTS_BY_BRAND_CACHE, key = "#brandId"),
-        @CacheEvict(value = CacheConfig.PRODUCT_BY_BRAND_CATEGORY_CACHE, key = "#brandId + '-' + #category.name()"),
-        @CacheEvict(value = CacheConfig.PRODUCT_BY_BRAND_CATEGORY_CACHE, key = "'cheapest-' + #brandId + '-' + #category.name()"),
-        @CacheEvict(value = CacheConfig.LOWEST_PRICE_BY_CATEGORY_CACHE, key = "#category.name()"),
-        @CacheEvict(value = CacheConfig.HIGHEST_PRICE_BY_CATEGORY_CACHE, key = "#category.name()"),
-        @CacheEvict(value = CacheConfig.LOWEST_PRICE_BRAND_CACHE, allEntries = true)
-    })
     public Product updateProductByBrandAndCategory(Long brandId, Category category, Integer price) {
         log.debug("Attempting to update product for brand id: {} and category: {} to price: {}", brandId, category, price);
 
@@ -138,7 +170,9 @@ public class ProductService {
             Product product = products.getFirst();
             product.updatePrice(price);
             try {
-                return productRepository.save(product);
+                Product saved = productRepository.saveAndFlush(product);
+                eventPublisher.publishEvent(ProductChangedEvent.of(ChangeType.UPDATED, saved));
+                return saved;
             } catch (ObjectOptimisticLockingFailureException e) {
                 log.warn("Optimistic locking failure when updating product for brand id: {} and category: {}. Retry attempt will follow.", 
                          brandId, category);
@@ -152,7 +186,9 @@ public class ProductService {
         
         cheapestProduct.updatePrice(price);
         try {
-            return productRepository.save(cheapestProduct);
+            Product saved = productRepository.saveAndFlush(cheapestProduct);
+            eventPublisher.publishEvent(ProductChangedEvent.of(ChangeType.UPDATED, saved));
+            return saved;
         } catch (ObjectOptimisticLockingFailureException e) {
             log.warn("Optimistic locking failure when updating cheapest product for brand id: {} and category: {}. Retry attempt will follow.", 
                      brandId, category);
@@ -160,25 +196,13 @@ public class ProductService {
         }
     }
 
-    @Retryable(
-        value = {ObjectOptimisticLockingFailureException.class},
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 500)
-    )
+    @Retryable(interceptor = RetryConfig.OPTIMISTIC_LOCK_RETRY)
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = CacheConfig.PRODUCT_CACHE, allEntries = true),
-        @CacheEvict(value = CacheConfig.PRODUCT_BY_ID_CACHE, key = "#id"),
-        @CacheEvict(value = CacheConfig.PRODUCTS_BY_BRAND_CACHE, allEntries = true),
-        @CacheEvict(value = CacheConfig.PRODUCT_BY_BRAND_CATEGORY_CACHE, allEntries = true),
-        @CacheEvict(value = CacheConfig.LOWEST_PRICE_BY_CATEGORY_CACHE, allEntries = true),
-        @CacheEvict(value = CacheConfig.HIGHEST_PRICE_BY_CATEGORY_CACHE, allEntries = true),
-        @CacheEvict(value = CacheConfig.LOWEST_PRICE_BRAND_CACHE, allEntries = true)
-    })
     public void deleteProduct(Long id) {
         log.debug("Attempting to delete product with id: {}", id);
-        Product product = getProductById(id);
+        Product product = findProduct(id);
         Brand brand = product.getBrand();
+        eventPublisher.publishEvent(ProductChangedEvent.of(ChangeType.DELETED, product));
         brand.removeProduct(product);
         try {
             productRepository.delete(product);
@@ -188,30 +212,50 @@ public class ProductService {
         }
     }
 
-    @Cacheable(CacheConfig.LOWEST_PRICE_BY_CATEGORY_CACHE)
+    // 쓰기 경로는 캐시된 읽기 모델 대신 관리 상태의 엔티티를 조회한다
+    private Product findProduct(Long id) {
+        return productRepository.findById(id)
+                .orElseThrow(() -> new NoSuchElementException("Product not found with id: " + id));
+    }
+
+    // 가격 조회는 모두 같은 불변 스냅샷에서 읽으므로 캐시도, 잠금도, DB 조회도 없다
     public List<CategoryBrandPriceDto> findLowestPriceByAllCategories() {
-        log.debug("Calculating lowest price for all categories");
-        return productRepository.findLowestPriceByCategory();
+        return pricingSnapshotHolder.current().lowestPriceByAllCategories();
+    }
+
+    // 제외 브랜드를 뺀 카테고리별 최저가. 보통은 스냅샷의 상위 브랜드 목록에서 제외 브랜드만 건너뛰므로 제외 목록 길이에 비례하고,
+    // 목록이 모두 제외된 카테고리는 인덱스에서 제외 브랜드 상품을 하나씩 지나가므로 그 상품 수에 비례한다
+    public List<CategoryBrandPriceDto> findLowestPriceByAllCategoriesExcluding(BrandExclusions exclusions) {
+        return pricingSnapshotHolder.lowestPriceByAllCategoriesExcluding(exclusions);
     }
 
-    @Cacheable(value = CacheConfig.LOWEST_PRICE_BY_CATEGORY_CACHE, key = "#category.name()")
     public List<CategoryBrandPriceDto> findLowestPriceByCategory(Category category) {
-        log.debug("Calculating lowest price for category: {}", category);
-        return productRepository.findLowestPriceByCategory(category);
+        return pricingSnapshotHolder.current().priceRange(category).lowest();
     }
 
-    @Cacheable(value = CacheConfig.HIGHEST_PRICE_BY_CATEGORY_CACHE, key = "#category.name()")
     public List<CategoryBrandPriceDto> findHighestPriceByCategory(Category category) {
-        log.debug("Calculating highest price for category: {}", category);
-        return productRepository.findHighestPriceByCategory(category);
+        return pricingSnapshotHolder.current().priceRange(category).highest();
+    }
+
+    // 최저가와 최고가를 같은 스냅샷에서 함께 읽는다
+    public CategoryPriceRange findPriceRangeByCategory(Category category) {
+        return pricingSnapshotHolder.current().priceRange(category);
+    }
+
+    // 카테고리에서 가장 싼/비싼 브랜드 k곳. 스냅샷이 상한만큼 정렬해 둔 목록을 자르기만 한다
+    public CategoryOffers findTopOffersByCategory(Category category, int k) {
+        validateTopOffersK(k);
+        return pricingSnapshotHolder.current().topOffers(category, k);
+    }
+
+    public void validateTopOffersK(int k) {
+        int max = pricingSnapshotHolder.topOffersMax();
+        if (k < 1 || k > max) {
+            throw new IllegalArgumentException("k must be between 1 and " + max + ": " + k);
+        }
     }
 
-    @Cacheable(CacheConfig.LOWEST_PRICE_BY_CATEGORY_CACHE)
     public int calculateTotalLowestPriceAcrossCategories() {
-        log.debug("Calculating total lowest price across all categories");
-        List<CategoryBrandPriceDto> lowestPriceItems = findLowestPriceByAllCategories();
-        return lowestPriceItems.stream()
-                .mapToInt(CategoryBrandPriceDto::getPrice)
-                .sum();
+        return pricingSnapshotHolder.current().totalLowestPrice();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,216 @@
+package org.service.brandcody.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.service.brandcody.config.PriceStreamProperties;
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.dto.CategoryBrandPriceDto;
+import org.service.brandcody.dto.response.CategoryPriceChangeResponse;
+import org.service.brandcody.dto.response.ProductPriceChangeResponse;
+import org.service.brandcody.dto.response.SingleBrandResponse;
+import org.service.brandcody.event.ProductChangedEvent;
+import org.service.brandcody.index.BrandTotal;
+import org.service.brandcody.index.PricingSnapshot;
+import org.service.brandcody.index.PricingSnapshotChangedEvent;
+import org.service.brandcody.index.PricingSnapshotHolder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 커밋된 가격 변경을 SSE 구독자에게 밀어준다. 상품 가격 변경과, 가격 스냅샷이 바뀔 때의
+// 카테고리 최저가/최고가 변경, 최저가 완성 브랜드 변경을 보낸다.
+// 메시지는 한 번만 직렬화해 구독자별 대기열에 넣기만 하고, 실제 전송은 구독자마다 가상 스레드 하나가 맡는다.
+@Slf4j
+@Component
+public class PriceChangeBroadcaster implements DisposableBean {
+    static final String PRODUCT_PRICE = "product-price";
+    static final String CATEGORY_MIN = "category-min";
+    static final String CATEGORY_MAX = "category-max";
+    static final String CHEAPEST_BRAND = "cheapest-brand";
+
+    private final ObjectMapper objectMapper;
+    private final PricingSnapshotHolder pricingSnapshotHolder;
+    private final PriceStreamProperties properties;
+    private final Set<PriceStreamSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    // 블로킹 소켓 쓰기가 느린 구독자에 묶여도 플랫폼 스레드를 잡지 않는다
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    // 구독 시 보내는 현재 상태와 스냅샷 변경 메시지의 순서를 맞춘다
+    private final ReentrantLock stateLock = new ReentrantLock();
+    private final Counter conflated;
+    private PricingSnapshot latest;
+
+    public PriceChangeBroadcaster(ObjectMapper objectMapper,
+                                  PricingSnapshotHolder pricingSnapshotHolder,
+                                  PriceStreamProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.pricingSnapshotHolder = pricingSnapshotHolder;
+        this.properties = properties;
+        Gauge.builder("brandcody.price.stream.subscribers", subscribers, Set::size)
+                .description("Open price change streams")
+                .register(meterRegistry);
+        this.conflated = Counter.builder("brandcody.price.stream.conflated")
+                .description("Pending price stream messages replaced by a newer one or dropped on overflow")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        PriceStreamSubscriber subscriber = new PriceStreamSubscriber(emitter, properties.getBufferSize(), subscribers::remove);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(() -> {
+            subscriber.close();
+            emitter.complete();
+        });
+        emitter.onError(e -> subscriber.close());
+
+        PricingSnapshot initial = pricingSnapshotHolder.current();
+        stateLock.lock();
+        try {
+            // 이미 전달한 스냅샷이 더 새 것이면 그 상태에서 시작해야 이후 변경 메시지와 어긋나지 않는다
+            PricingSnapshot state = latest != null && latest.version() > initial.version() ? latest : initial;
+            // 구독하자마자 현재 최저/최고가와 최저가 브랜드를 받아 폴링 없이 상태를 맞춘다
+            for (PriceStreamMessage message : stateMessages(state)) {
+                subscriber.offer(message);
+            }
+            subscribers.add(subscriber);
+        } finally {
+            stateLock.unlock();
+        }
+        schedule(subscriber);
+        log.debug("Price stream subscribed, {} open streams", subscribers.size());
+        return emitter;
+    }
+
+    @EventListener
+    public void onSnapshotChanged(PricingSnapshotChangedEvent event) {
+        stateLock.lock();
+        try {
+            latest = event.current();
+            List<PriceStreamMessage> messages = transitions(event.previous(), event.current());
+            if (!messages.isEmpty()) {
+                broadcast(messages);
+            }
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    // 커밋된 경우에만 보낸다. 롤백되거나 재시도로 버려진 시도의 이벤트는 오지 않는다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        broadcast(List.of(message(PRODUCT_PRICE, "product:" + event.productId(), ProductPriceChangeResponse.from(event))));
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.forEach(PriceStreamSubscriber::close);
+        sender.shutdownNow();
+    }
+
+    private void broadcast(List<PriceStreamMessage> messages) {
+        for (PriceStreamSubscriber subscriber : subscribers) {
+            int discarded = 0;
+            for (PriceStreamMessage message : messages) {
+                discarded += subscriber.offer(message);
+            }
+            if (discarded > 0) {
+                conflated.increment(discarded);
+            }
+            schedule(subscriber);
+        }
+    }
+
+    private void schedule(PriceStreamSubscriber subscriber) {
+        if (!subscriber.tryStartDrain()) {
+            return;
+        }
+        try {
+            sender.execute(subscriber::drain);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            subscriber.close();
+        }
+    }
+
+    private List<PriceStreamMessage> stateMessages(PricingSnapshot snapshot) {
+        List<PriceStreamMessage> messages = new ArrayList<>();
+        for (Category category : Category.values()) {
+            messages.add(categoryMessage(CATEGORY_MIN, category, snapshot.priceRange(category).lowest()));
+            messages.add(categoryMessage(CATEGORY_MAX, category, snapshot.priceRange(category).highest()));
+        }
+        snapshot.lowestTotalBrand().ifPresent(brand -> messages.add(brandMessage(brand)));
+        return messages;
+    }
+
+    // 스냅샷 사이에 실제로 바뀐 최저가/최고가와 최저가 브랜드만 메시지로 만든다
+    private List<PriceStreamMessage> transitions(PricingSnapshot previous, PricingSnapshot current) {
+        List<PriceStreamMessage> messages = new ArrayList<>();
+        for (Category category : Category.values()) {
+            List<CategoryBrandPriceDto> lowest = current.priceRange(category).lowest();
+            if (!samePrices(previous.priceRange(category).lowest(), lowest)) {
+                messages.add(categoryMessage(CATEGORY_MIN, category, lowest));
+            }
+            List<CategoryBrandPriceDto> highest = current.priceRange(category).highest();
+            if (!samePrices(previous.priceRange(category).highest(), highest)) {
+                messages.add(categoryMessage(CATEGORY_MAX, category, highest));
+            }
+        }
+        Optional<BrandTotal> cheapest = current.lowestTotalBrand();
+        if (cheapest.isPresent() && !cheapest.equals(previous.lowestTotalBrand())) {
+            messages.add(brandMessage(cheapest.get()));
+        }
+        return messages;
+    }
+
+    private static boolean samePrices(List<CategoryBrandPriceDto> before, List<CategoryBrandPriceDto> after) {
+        if (before.size() != after.size()) {
+            return false;
+        }
+        for (int i = 0; i < before.size(); i++) {
+            if (!before.get(i).getBrandName().equals(after.get(i).getBrandName())
+                    || !before.get(i).getPrice().equals(after.get(i).getPrice())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private PriceStreamMessage categoryMessage(String name, Category category, List<CategoryBrandPriceDto> prices) {
+        return message(name, name + ":" + category.name(), CategoryPriceChangeResponse.of(category, prices));
+    }
+
+    private PriceStreamMessage brandMessage(BrandTotal brand) {
+        return message(CHEAPEST_BRAND, CHEAPEST_BRAND, SingleBrandResponse.from(brand));
+    }
+
+    private PriceStreamMessage message(String name, String key, Object payload) {
+        try {
+            return new PriceStreamMessage(sequence.incrementAndGet(), name, key, objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
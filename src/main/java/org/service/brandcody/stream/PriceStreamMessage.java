@@ -0,0 +1,6 @@
+package org.service.brandcody.stream;
+
+// 구독자에게 보낼 SSE 메시지. 본문은 팬아웃 전에 한 번만 직렬화한다.
+// key가 같은 메시지는 아직 보내지 않았다면 최신 메시지로 합쳐진다 (예: product:3, category-min:TOP)
+record PriceStreamMessage(long id, String name, String key, String json) {
+}
@@ -0,0 +1,119 @@
+package org.service.brandcody.stream;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+// 구독자 하나의 전송 대기열. 같은 키의 대기 메시지는 최신 값으로 덮어써 빠르게 바뀌는 값은 마지막 값만 보내고,
+// 서로 다른 키가 용량을 넘으면 가장 오래된 메시지를 버린다. 느린 구독자는 자기 대기열만 합쳐질 뿐 발행자를 막지 않는다.
+final class PriceStreamSubscriber {
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final Consumer<PriceStreamSubscriber> onClose;
+    private final Map<String, PriceStreamMessage> pending = new LinkedHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    // 전송 작업이 예약되었거나 실행 중이면 true. 구독자마다 전송 작업은 하나만 돈다
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+
+    PriceStreamSubscriber(SseEmitter emitter, int capacity, Consumer<PriceStreamSubscriber> onClose) {
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.onClose = onClose;
+    }
+
+    // 합쳐지거나 버려진 메시지 수를 돌려준다
+    int offer(PriceStreamMessage message) {
+        lock.lock();
+        try {
+            if (closed) {
+                return 0;
+            }
+            // 덮어쓴 메시지는 맨 뒤로 옮겨 보내는 순서가 메시지 ID 순서와 같게 한다
+            int discarded = pending.remove(message.key()) != null ? 1 : 0;
+            if (pending.size() >= capacity) {
+                Iterator<PriceStreamMessage> oldest = pending.values().iterator();
+                oldest.next();
+                oldest.remove();
+                discarded++;
+            }
+            pending.put(message.key(), message);
+            return discarded;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean tryStartDrain() {
+        return !closed && draining.compareAndSet(false, true);
+    }
+
+    void drain() {
+        try {
+            while (true) {
+                PriceStreamMessage next = poll();
+                if (next == null) {
+                    draining.set(false);
+                    // 표시를 내리는 사이 들어온 메시지는 새 작업을 기다리지 않고 여기서 이어서 보낸다
+                    if (isEmpty() || !draining.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                emitter.send(SseEmitter.event()
+                        .id(Long.toString(next.id()))
+                        .name(next.name())
+                        .data(next.json(), MediaType.APPLICATION_JSON));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊겼거나 이미 완료된 스트림
+            close();
+            emitter.completeWithError(e);
+        }
+    }
+
+    void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            pending.clear();
+        } finally {
+            lock.unlock();
+        }
+        onClose.accept(this);
+    }
+
+    private PriceStreamMessage poll() {
+        lock.lock();
+        try {
+            Iterator<PriceStreamMessage> iterator = pending.values().iterator();
+            if (closed || !iterator.hasNext()) {
+                return null;
+            }
+            PriceStreamMessage next = iterator.next();
+            iterator.remove();
+            return next;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isEmpty() {
+        lock.lock();
+        try {
+            return closed || pending.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package org.service.brandcody.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.service.brandcody.domain.Brand;
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.domain.Product;
+import org.service.brandcody.index.BrandTotalIndex;
+import org.service.brandcody.index.CategoryPriceIndex;
+import org.service.brandcody.repository.BrandRepository;
+import org.service.brandcody.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 원자적 가격 수정 모드: If-Match 없는 수정은 단일 UPDATE로, If-Match 수정은 버전 조건으로 처리되는지 확인한다
+@SpringBootTest(properties = "brandcody.pricing.atomic-updates=true")
+@AutoConfigureMockMvc
+public class AtomicPriceUpdateApiTest {
+    private static final int CONCURRENT_UPDATES = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryPriceIndex categoryPriceIndex;
+
+    @Autowired
+    private BrandTotalIndex brandTotalIndex;
+
+    private Long brandId;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        Brand brand = new Brand();
+        brand.setName("AtomicPriceBrand");
+        brand.addProduct(new Product(Category.TOP, 10000));
+        Brand saved = brandRepository.save(brand);
+        brandId = saved.getId();
+        productId = saved.getProducts().getFirst().getId();
+        categoryPriceIndex.invalidate();
+        brandTotalIndex.invalidate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        brandRepository.deleteById(brandId);
+        categoryPriceIndex.invalidate();
+        brandTotalIndex.invalidate();
+    }
+
+    @Test
+    @DisplayName("If-Match 없는 동시 수정은 충돌 없이 모두 성공하고 버전이 요청 수만큼 증가")
+    void concurrentUnconditionalUpdates_AllSucceedWithoutConflict() throws Exception {
+        long initialVersion = productRepository.findById(productId).orElseThrow().getVersion();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_UPDATES)) {
+            for (int i = 0; i < CONCURRENT_UPDATES; i++) {
+                int price = 11000 + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(put("/api/products/{id}", productId)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content("{\"price\": " + price + "}"))
+                            .andReturn().getResponse().getStatus();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> result : results) {
+                assertThat(result.get()).isEqualTo(200);
+            }
+        }
+
+        Product updated = productRepository.findById(productId).orElseThrow();
+        assertThat(updated.getVersion()).isEqualTo(initialVersion + CONCURRENT_UPDATES);
+        assertThat(updated.getPrice()).isBetween(11000, 11000 + CONCURRENT_UPDATES - 1);
+    }
+
+    @Test
+    @DisplayName("원자적 수정 결과는 ETag와 함께 반환되고 이후 조회에도 반영")
+    void unconditionalUpdate_ReturnsETagAndEvictsCachedProduct() throws Exception {
+        mockMvc.perform(get("/api/products/{id}", productId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.price").value(10000));
+
+        MvcResult result = mockMvc.perform(put("/api/products/{id}", productId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"price\": 12000}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.price").value(12000))
+                .andReturn();
+        String eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/products/{id}", productId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(jsonPath("$.price").value(12000));
+    }
+
+    @Test
+    @DisplayName("If-Match 버전이 현재 버전과 같으면 수정, 다르면 412")
+    void conditionalUpdate_ChecksIfMatchVersion() throws Exception {
+        String eTag = mockMvc.perform(get("/api/products/{id}", productId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put("/api/products/{id}", productId)
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"price\": 13000}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.price").value(13000));
+
+        // 이미 쓰인 버전으로 다시 보내면 다른 쓰기를 덮어쓰지 않는다
+        mockMvc.perform(put("/api/products/{id}", productId)
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"price\": 14000}"))
+                .andExpect(status().isPreconditionFailed());
+
+        assertThat(productRepository.findById(productId).orElseThrow().getPrice()).isEqualTo(13000);
+    }
+
+    @Test
+    @DisplayName("약한 ETag로 보낸 If-Match는 버전이 같아도 412")
+    void conditionalUpdate_WeakETag_ReturnsPreconditionFailed() throws Exception {
+        String eTag = mockMvc.perform(get("/api/products/{id}", productId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put("/api/products/{id}", productId)
+                        .header(HttpHeaders.IF_MATCH, "W/" + eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"price\": 13000}"))
+                .andExpect(status().isPreconditionFailed());
+
+        assertThat(productRepository.findById(productId).orElseThrow().getPrice()).isEqualTo(10000);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품의 원자적 수정은 404")
+    void unconditionalUpdate_NonExistingProduct_ReturnsNotFound() throws Exception {
+        mockMvc.perform(put("/api/products/{id}", 999999L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"price\": 12000}"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,79 @@
+package org.service.brandcody.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.service.brandcody.repository.BrandRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 브랜드명 변경 후 캐시된 상품 단건 조회가 새 브랜드명을 돌려주는지 확인한다.
+// 캐시 무효화는 커밋 이후에 일어나므로 테스트 트랜잭션 없이 실제로 커밋한다
+@SpringBootTest
+@AutoConfigureMockMvc
+public class BrandRenameCacheApiTest {
+    private static final String BRAND_NAME = "RenameCacheBrand";
+    private static final String RENAMED_BRAND_NAME = "RenamedCacheBrand";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    private Long brandId;
+
+    @AfterEach
+    void tearDown() {
+        if (brandId != null && brandRepository.existsById(brandId)) {
+            brandRepository.deleteById(brandId);
+        }
+    }
+
+    @Test
+    @DisplayName("브랜드명 변경 후 상품 단건 조회는 캐시된 이전 브랜드명 대신 새 브랜드명을 반환한다")
+    void renameBrand_ThenProductById_ReturnsNewBrandName() throws Exception {
+        brandId = readJson(mockMvc.perform(post("/api/brands")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + BRAND_NAME + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString()).get("id").asLong();
+        long productId = readJson(mockMvc.perform(post("/api/products/brand/{brandId}", brandId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"category\":\"TOP\",\"price\":10000}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString()).get("id").asLong();
+
+        // 이전 브랜드명으로 단건 캐시를 채운다
+        mockMvc.perform(get("/api/products/{id}", productId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.brand").value(BRAND_NAME));
+
+        mockMvc.perform(put("/api/brands/{id}", brandId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + RENAMED_BRAND_NAME + "\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/products/{id}", productId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.brand").value(RENAMED_BRAND_NAME));
+    }
+
+    private JsonNode readJson(String content) throws Exception {
+        return objectMapper.readTree(content);
+    }
+}
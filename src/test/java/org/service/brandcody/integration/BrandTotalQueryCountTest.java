@@ -0,0 +1,127 @@
+package org.service.brandcody.integration;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.service.brandcody.domain.Brand;
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.domain.Product;
+import org.service.brandcody.index.BrandTotalIndex;
+import org.service.brandcody.index.CategoryPriceIndex;
+import org.service.brandcody.repository.BrandRepository;
+import org.service.brandcody.service.BrandService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 브랜드 수가 늘어도 최저가 브랜드/브랜드별 총액 조회의 SQL 실행 횟수가 일정한지 확인하는 회귀 테스트
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+@Sql(scripts = {"/schema.sql", "/fixture/data.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+public class BrandTotalQueryCountTest {
+    private static final int ADDED_BRANDS = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CategoryPriceIndex categoryPriceIndex;
+
+    @Autowired
+    private BrandTotalIndex brandTotalIndex;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        categoryPriceIndex.invalidate();
+        brandTotalIndex.invalidate();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("최저가 브랜드 조회 - 브랜드 수와 무관하게 SQL 실행 횟수가 일정")
+    void lowestPriceBrand_StatementCountIndependentOfBrandCount() throws Exception {
+        long baseline = statementsForLowestPriceBrand();
+
+        addCompleteBrands();
+        long afterGrowth = statementsForLowestPriceBrand();
+
+        // 인덱스 적재용 단일 조회 외에 브랜드/상품을 다시 읽지 않는다
+        assertThat(baseline).isLessThanOrEqualTo(1);
+        assertThat(afterGrowth).isEqualTo(baseline);
+    }
+
+    @Test
+    @DisplayName("브랜드별 총액 조회 - 브랜드 수와 무관하게 SQL 실행 횟수가 일정")
+    void allBrandTotals_StatementCountIndependentOfBrandCount() {
+        resetCachesAndIndex();
+        int baselineSize = brandService.findAllBrandsWithTotalPrice().size();
+        long baseline = statistics.getPrepareStatementCount();
+
+        addCompleteBrands();
+        resetCachesAndIndex();
+        int grownSize = brandService.findAllBrandsWithTotalPrice().size();
+        long afterGrowth = statistics.getPrepareStatementCount();
+
+        assertThat(grownSize).isEqualTo(baselineSize + ADDED_BRANDS);
+        assertThat(baseline).isLessThanOrEqualTo(1);
+        assertThat(afterGrowth).isEqualTo(baseline);
+    }
+
+    private long statementsForLowestPriceBrand() throws Exception {
+        resetCachesAndIndex();
+        mockMvc.perform(get("/api/brands/lowest-price"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(Category.values().length));
+        return statistics.getPrepareStatementCount();
+    }
+
+    // 브랜드 인덱스를 비워 다음 조회가 실제 적재 경로를 타게 하고, 그 이후의 실행 횟수만 센다.
+    // 가격 스냅샷은 카테고리 인덱스도 함께 읽으므로 카테고리 인덱스는 미리 적재해 두고 세지 않는다
+    private void resetCachesAndIndex() {
+        brandTotalIndex.invalidate();
+        categoryPriceIndex.reload();
+        statistics.clear();
+    }
+
+    private void addCompleteBrands() {
+        for (int i = 0; i < ADDED_BRANDS; i++) {
+            Brand brand = new Brand();
+            brand.setName("QueryCountBrand" + i);
+            for (Category category : Category.values()) {
+                brand.addProduct(new Product(category, 50000 + i));
+            }
+            brandRepository.save(brand);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,124 @@
+package org.service.brandcody.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.service.brandcody.domain.Brand;
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.domain.Product;
+import org.service.brandcody.repository.BrandRepository;
+import org.service.brandcody.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class BulkPriceUpdateApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long brandId;
+    private Long topId;
+    private Long pantsId;
+
+    @BeforeEach
+    void setUp() {
+        Brand brand = new Brand();
+        brand.setName("RepricingBrand");
+        brand = brandRepository.save(brand);
+        brandId = brand.getId();
+
+        Product top = new Product(Category.TOP, 10000);
+        brand.addProduct(top);
+        Product pants = new Product(Category.PANTS, 4000);
+        brand.addProduct(pants);
+        topId = productRepository.saveAndFlush(top).getId();
+        pantsId = productRepository.saveAndFlush(pants).getId();
+    }
+
+    @Test
+    @DisplayName("가격 일괄 변경 - 상품 ID와 브랜드-카테고리 지정이 함께 반영됨")
+    void updatePrices_ByIdAndBrandCategory_AppliesAll() throws Exception {
+        String body = "{\"items\":[" +
+                "{\"id\":" + topId + ",\"price\":12000}," +
+                "{\"brandId\":" + brandId + ",\"category\":\"PANTS\",\"price\":4500}" +
+                "]}";
+
+        mockMvc.perform(put("/api/products/bulk/prices")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requestedCount").value(2))
+                .andExpect(jsonPath("$.updatedCount").value(2))
+                .andExpect(jsonPath("$.conflicts").isEmpty());
+
+        assertThat(priceOf(topId)).isEqualTo(12000);
+        assertThat(priceOf(pantsId)).isEqualTo(4500);
+        assertThat(versionOf(topId)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("가격 일괄 변경 - 버전 충돌과 없는 상품은 항목별로 보고되고 나머지는 반영됨")
+    void updatePrices_WithConflicts_ReportsPerItem() throws Exception {
+        String body = "{\"items\":[" +
+                "{\"id\":" + topId + ",\"price\":12000,\"version\":5}," +
+                "{\"id\":999999,\"price\":1000}," +
+                "{\"id\":" + pantsId + ",\"price\":4500}," +
+                "{\"id\":" + pantsId + ",\"price\":4700}" +
+                "]}";
+
+        mockMvc.perform(put("/api/products/bulk/prices")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updatedCount").value(1))
+                .andExpect(jsonPath("$.conflicts.length()").value(3))
+                .andExpect(jsonPath("$.conflicts[0].index").value(0))
+                .andExpect(jsonPath("$.conflicts[0].reason").value("VERSION_CONFLICT"))
+                .andExpect(jsonPath("$.conflicts[1].index").value(1))
+                .andExpect(jsonPath("$.conflicts[1].reason").value("NOT_FOUND"))
+                .andExpect(jsonPath("$.conflicts[2].index").value(3))
+                .andExpect(jsonPath("$.conflicts[2].reason").value("DUPLICATE_TARGET"));
+
+        assertThat(priceOf(topId)).isEqualTo(10000);
+        assertThat(priceOf(pantsId)).isEqualTo(4500);
+    }
+
+    @Test
+    @DisplayName("가격 일괄 변경 - 상품 ID도 브랜드-카테고리도 없으면 400")
+    void updatePrices_WithoutTarget_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(put("/api/products/bulk/prices")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"items\":[{\"price\":1000}]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Integer priceOf(Long productId) {
+        return jdbcTemplate.queryForObject("SELECT price FROM products WHERE id = ?", Integer.class, productId);
+    }
+
+    private Long versionOf(Long productId) {
+        return jdbcTemplate.queryForObject("SELECT version FROM products WHERE id = ?", Long.class, productId);
+    }
+}
@@ -0,0 +1,209 @@
+package org.service.brandcody.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.service.brandcody.config.ChangeLogProperties;
+import org.service.brandcody.dto.response.CatalogChangesResponse;
+import org.service.brandcody.exception.ChangesExpiredException;
+import org.service.brandcody.repository.BrandRepository;
+import org.service.brandcody.repository.CatalogChangeJdbcRepository;
+import org.service.brandcody.repository.ProductPriceJdbcRepository;
+import org.service.brandcody.service.CatalogChangeLog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 변경 동기화: 커밋된 쓰기만 시퀀스 순으로 기록되고, since/limit로 이어 받을 수 있으며, 보존 기간이 지나면 410을 받는지 확인한다.
+// 기록은 커밋 직전에 남으므로 테스트 트랜잭션 없이 실제로 커밋한다
+@SpringBootTest
+@AutoConfigureMockMvc
+public class CatalogChangeApiTest {
+    private static final String BRAND_NAME = "CatalogChangeBrand";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CatalogChangeLog catalogChangeLog;
+
+    @Autowired
+    private CatalogChangeJdbcRepository catalogChangeJdbcRepository;
+
+    @Autowired
+    private ProductPriceJdbcRepository productPriceJdbcRepository;
+
+    @Autowired
+    private ChangeLogProperties changeLogProperties;
+
+    private Long brandId;
+
+    @AfterEach
+    void tearDown() {
+        if (brandId != null && brandRepository.existsById(brandId)) {
+            brandRepository.deleteById(brandId);
+        }
+    }
+
+    @Test
+    @DisplayName("브랜드/상품 쓰기 후 since 이후 변경을 순서대로 받고, limit로 나누어 이어 받는다")
+    void writes_ThenChangesSince_ReturnedInOrderAndPaged() throws Exception {
+        long since = latestSequence();
+
+        brandId = readJson(mockMvc.perform(post("/api/brands")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + BRAND_NAME + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString()).get("id").asLong();
+        long productId = readJson(mockMvc.perform(post("/api/products/brand/{brandId}", brandId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"category\":\"TOP\",\"price\":10000}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString()).get("id").asLong();
+        mockMvc.perform(put("/api/products/{id}", productId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"price\":12000}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/products/{id}", productId))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/changes").param("since", String.valueOf(since)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(4))
+                .andExpect(jsonPath("$.changes[0].entity").value("BRAND"))
+                .andExpect(jsonPath("$.changes[0].change").value("CREATED"))
+                .andExpect(jsonPath("$.changes[0].brand").value(BRAND_NAME))
+                .andExpect(jsonPath("$.changes[1].entity").value("PRODUCT"))
+                .andExpect(jsonPath("$.changes[1].change").value("CREATED"))
+                .andExpect(jsonPath("$.changes[1].id").value(productId))
+                .andExpect(jsonPath("$.changes[2].change").value("UPDATED"))
+                .andExpect(jsonPath("$.changes[2].price").value(12000))
+                .andExpect(jsonPath("$.changes[3].change").value("DELETED"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+
+        JsonNode first = readJson(mockMvc.perform(get("/api/changes")
+                        .param("since", String.valueOf(since))
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(2))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn().getResponse().getContentAsString());
+        long nextSince = first.get("nextSince").asLong();
+        assertThat(nextSince).isEqualTo(first.get("changes").get(1).get("sequence").asLong());
+
+        mockMvc.perform(get("/api/changes")
+                        .param("since", String.valueOf(nextSince))
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[0].change").value("UPDATED"))
+                .andExpect(jsonPath("$.changes[1].change").value("DELETED"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @DisplayName("브랜드 삭제는 브랜드명이 없는 삭제 표시로 기록된다")
+    void deleteBrand_RecordedAsTombstone() throws Exception {
+        brandId = readJson(mockMvc.perform(post("/api/brands")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + BRAND_NAME + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString()).get("id").asLong();
+        long since = latestSequence();
+
+        mockMvc.perform(delete("/api/brands/{id}", brandId))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/changes").param("since", String.valueOf(since)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(1))
+                .andExpect(jsonPath("$.changes[0].entity").value("BRAND"))
+                .andExpect(jsonPath("$.changes[0].id").value(brandId))
+                .andExpect(jsonPath("$.changes[0].change").value("DELETED"))
+                .andExpect(jsonPath("$.changes[0].brand").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지나 삭제된 구간의 since로 조회하면 410을 반환한다")
+    void sinceBeforePurgedSequence_ReturnsGone() throws Exception {
+        createBrandWithProduct();
+        long latest = latestSequence();
+
+        // 마지막 기록(상품 생성)은 재시작 후 경계를 다시 읽을 수 있도록 남는다
+        catalogChangeLog.purgeChangedBefore(Instant.now().plusSeconds(1));
+
+        mockMvc.perform(get("/api/changes").param("since", String.valueOf(latest - 2)))
+                .andExpect(status().isGone());
+        mockMvc.perform(get("/api/changes").param("since", String.valueOf(latest - 1)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(1))
+                .andExpect(jsonPath("$.changes[0].sequence").value(latest));
+    }
+
+    @Test
+    @DisplayName("재시작 후에도 삭제된 구간의 since로 조회하면 잘린 결과 대신 410을 반환한다")
+    void sinceBeforePurgedSequence_AfterRestart_StillExpired() throws Exception {
+        createBrandWithProduct();
+        long latest = latestSequence();
+        catalogChangeLog.purgeChangedBefore(Instant.now().plusSeconds(1));
+
+        // 메모리 상태 없이 같은 테이블에서 다시 시작한 변경 기록
+        CatalogChangeLog restarted = new CatalogChangeLog(
+                catalogChangeJdbcRepository, productPriceJdbcRepository, changeLogProperties);
+
+        assertThatThrownBy(() -> restarted.findChanges(latest - 2, 10))
+                .isInstanceOf(ChangesExpiredException.class);
+        CatalogChangesResponse response = restarted.findChanges(latest - 1, 10);
+        assertThat(response.changes()).hasSize(1);
+        assertThat(response.latestSequence()).isEqualTo(latest);
+    }
+
+    @Test
+    @DisplayName("변경 내역 조회 - 허용 범위를 벗어난 limit은 400")
+    void getChanges_InvalidLimit_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/changes").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void createBrandWithProduct() throws Exception {
+        brandId = readJson(mockMvc.perform(post("/api/brands")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + BRAND_NAME + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString()).get("id").asLong();
+        mockMvc.perform(post("/api/products/brand/{brandId}", brandId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"category\":\"TOP\",\"price\":10000}"))
+                .andExpect(status().isCreated());
+    }
+
+    private long latestSequence() throws Exception {
+        return readJson(mockMvc.perform(get("/api/changes").param("since", String.valueOf(Long.MAX_VALUE)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("latestSequence").asLong();
+    }
+
+    private JsonNode readJson(String content) throws Exception {
+        return objectMapper.readTree(content);
+    }
+}
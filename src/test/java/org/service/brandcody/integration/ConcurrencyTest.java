@@ -6,6 +6,8 @@ import org.junit.jupiter.api.Test;
 import org.service.brandcody.domain.Brand;
 import org.service.brandcody.domain.Category;
 import org.service.brandcody.domain.Product;
+import org.service.brandcody.index.BrandTotalIndex;
+import org.service.brandcody.index.CategoryPriceIndex;
 import org.service.brandcody.repository.BrandRepository;
 import org.service.brandcody.repository.ProductRepository;
 import org.service.brandcody.service.BrandService;
@@ -58,6 +60,12 @@ public class ConcurrencyTest {
     @Autowired
     private BrandService brandService;
 
+    @Autowired
+    private CategoryPriceIndex categoryPriceIndex;
+
+    @Autowired
+    private BrandTotalIndex brandTotalIndex;
+
     private Brand testBrand;
     private Long brandId;
 
@@ -66,6 +74,8 @@ public class ConcurrencyTest {
         // 테스트 전에 기존 데이터 삭제
         productRepository.deleteAll();
         brandRepository.deleteAll();
+        categoryPriceIndex.invalidate();
+        brandTotalIndex.invalidate();
 
         // 테스트 브랜드 생성
         testBrand = new Brand();
@@ -0,0 +1,150 @@
+package org.service.brandcody.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.service.brandcody.config.CacheConfig;
+import org.service.brandcody.domain.Brand;
+import org.service.brandcody.domain.Product;
+import org.service.brandcody.repository.BrandRepository;
+import org.service.brandcody.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class PagingApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        // 다른 테스트에서 채워진 페이지가 남지 않도록 비운다
+        cacheManager.getCache(CacheConfig.PRODUCT_PAGE_CACHE).clear();
+        cacheManager.getCache(CacheConfig.BRAND_PAGE_CACHE).clear();
+    }
+
+    @Test
+    @DisplayName("커서를 따라가면 모든 상품을 ID 순으로 한 번씩 조회")
+    void productPages_FollowCursor_VisitsAllProductsInOrder() throws Exception {
+        List<Long> visited = new ArrayList<>();
+        Long cursor = 0L;
+        while (cursor != null) {
+            MvcResult result = mockMvc.perform(get("/api/products")
+                    .param("after", String.valueOf(cursor))
+                    .param("size", "10"))
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            JsonNode page = objectMapper.readTree(result.getResponse().getContentAsString());
+            assertThat(page.get("items").size()).isLessThanOrEqualTo(10);
+            page.get("items").forEach(item -> visited.add(item.get("id").asLong()));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asLong();
+        }
+
+        List<Long> expected = productRepository.findAll().stream()
+                .map(Product::getId)
+                .sorted()
+                .toList();
+        assertThat(visited).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("브랜드 페이지 조회 - 마지막 페이지의 nextCursor는 null")
+    void brandPage_LastPage_HasNullCursor() throws Exception {
+        long brandCount = brandRepository.count();
+
+        mockMvc.perform(get("/api/brands")
+                .param("size", String.valueOf(brandCount)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(brandCount))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+    }
+
+    @Test
+    @DisplayName("허용 범위를 벗어난 페이지 크기는 400")
+    void productPage_InvalidSize_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/products").param("size", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/products").param("size", "1001"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("size 없이 조회하면 기존처럼 전체 목록 배열을 반환")
+    void products_WithoutSize_ReturnsFullList() throws Exception {
+        mockMvc.perform(get("/api/products"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(productRepository.count()));
+    }
+
+    @Test
+    @DisplayName("상품 스트리밍 조회는 전체 상품을 JSON 배열로 내려준다")
+    void streamProducts_WritesAllProductsAsJsonArray() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/products/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        JsonNode products = objectMapper.readTree(result.getResponse().getContentAsString());
+        assertThat(products.isArray()).isTrue();
+        assertThat(products.size()).isEqualTo((int) productRepository.count());
+        assertThat(products.get(0).get("brand").asText()).isNotBlank();
+        assertThat(products.get(0).get("category").asText()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("브랜드 스트리밍 조회는 전체 브랜드를 ID 순으로 내려준다")
+    void streamBrands_WritesAllBrandsInIdOrder() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/brands/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        List<Long> streamed = new ArrayList<>();
+        objectMapper.readTree(result.getResponse().getContentAsString())
+                .forEach(brand -> streamed.add(brand.get("id").asLong()));
+        List<Long> expected = brandRepository.findAll().stream()
+                .map(Brand::getId)
+                .sorted()
+                .toList();
+        assertThat(streamed).containsExactlyElementsOf(expected);
+    }
+}
@@ -2,9 +2,12 @@ package org.service.brandcody.integration;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.service.brandcody.domain.Category;
+import org.service.brandcody.index.BrandTotalIndex;
+import org.service.brandcody.index.CategoryPriceIndex;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -21,6 +24,9 @@ import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -38,6 +44,19 @@ public class PriceApiTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private CategoryPriceIndex categoryPriceIndex;
+
+    @Autowired
+    private BrandTotalIndex brandTotalIndex;
+
+    @BeforeEach
+    void setUp() {
+        // @Sql로 재적재된 픽스처 기준으로 가격 인덱스를 다시 읽도록 초기화
+        categoryPriceIndex.invalidate();
+        brandTotalIndex.invalidate();
+    }
+
     @Test
     @DisplayName("전체 카테고리 최저가 상품 조회 API 테스트")
     void lowestPriceForAllCategoriesTest() throws Exception {
@@ -196,4 +215,56 @@ public class PriceApiTest {
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("카테고리별 상위 K 브랜드 조회 API 테스트")
+    void categoryTopOffersTest() throws Exception {
+        // When & Then: 픽스처 상의는 TestB 9000, TestC 9500, TestA 10000, TestE 10500, TestD 11000
+        mockMvc.perform(get("/api/products/category/{category}/top", "상의")
+                        .param("k", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.category").value("상의"))
+                .andExpect(jsonPath("$.k").value(3))
+                .andExpect(jsonPath("$.cheapest[*].brand").value(contains("TestB", "TestC", "TestA")))
+                .andExpect(jsonPath("$.cheapest[0].formattedPrice").value("9,000"))
+                .andExpect(jsonPath("$.mostExpensive[*].brand").value(contains("TestD", "TestE", "TestA")));
+    }
+
+    @Test
+    @DisplayName("카테고리별 상위 K 브랜드 조회 - 허용 범위를 벗어난 k")
+    void categoryTopOffersWithInvalidKTest() throws Exception {
+        mockMvc.perform(get("/api/products/category/{category}/top", "TOP")
+                        .param("k", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/products/category/{category}/top", "TOP")
+                        .param("k", "1000"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("브랜드 제외 카테고리별 최저가 조회 API 테스트")
+    void lowestPriceExcludingBrandsTest() throws Exception {
+        // When & Then: 상의 최저가 TestB(9000)를 빼면 TestC(9500)
+        mockMvc.perform(get("/api/products/lowest-price")
+                        .param("excludeBrands", "TestB"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categories[?(@.category == 'TOP')].brandName").value(contains("TestC")))
+                .andExpect(jsonPath("$.categories[?(@.category == 'TOP')].price").value(contains(9500)))
+                .andExpect(jsonPath("$.categories[*].brandName").value(not(hasItem("TestB"))));
+    }
+
+    @Test
+    @DisplayName("브랜드 제외 최저가 브랜드 조회 API 테스트")
+    void lowestTotalBrandExcludingBrandsTest() throws Exception {
+        // 총액: TestA 34000, TestB 34900, TestC/TestD 35000, TestE 36000
+        mockMvc.perform(get("/api/brands/lowest-price")
+                        .param("excludeBrands", "TestA"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.brand").value("TestB"))
+                .andExpect(jsonPath("$.totalPrice").value(34900));
+
+        mockMvc.perform(get("/api/brands/lowest-price")
+                        .param("excludeBrands", "TestA,TestB,TestC,TestD,TestE"))
+                .andExpect(status().isNotFound());
+    }
+}
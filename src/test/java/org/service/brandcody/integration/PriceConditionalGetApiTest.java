@@ -0,0 +1,146 @@
+package org.service.brandcody.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.service.brandcody.domain.Brand;
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.domain.Product;
+import org.service.brandcody.index.BrandTotalIndex;
+import org.service.brandcody.index.CategoryPriceIndex;
+import org.service.brandcody.repository.BrandRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 가격 조회 API의 ETag/조건부 GET: 변경이 없으면 304, 가격 수정이 커밋되면 새 ETag로 200을 받는지 확인한다
+@SpringBootTest
+@AutoConfigureMockMvc
+public class PriceConditionalGetApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryPriceIndex categoryPriceIndex;
+
+    @Autowired
+    private BrandTotalIndex brandTotalIndex;
+
+    private Long brandId;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        Brand brand = new Brand();
+        brand.setName("ConditionalGetBrand");
+        brand.addProduct(new Product(Category.TOP, 50000));
+        Brand saved = brandRepository.save(brand);
+        brandId = saved.getId();
+        productId = saved.getProducts().getFirst().getId();
+        categoryPriceIndex.invalidate();
+        brandTotalIndex.invalidate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        brandRepository.deleteById(brandId);
+        categoryPriceIndex.invalidate();
+        brandTotalIndex.invalidate();
+    }
+
+    @Test
+    @DisplayName("카테고리별 최저가 조회 - 같은 ETag로 다시 조회하면 본문 없이 304")
+    void lowestPrice_MatchingETag_ReturnsNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/api/products/lowest-price"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.CACHE_CONTROL))
+                .andExpect(jsonPath("$.categories").isArray())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(eTag).startsWith("\"").endsWith("\"");
+        mockMvc.perform(get("/api/products/lowest-price").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/products/lowest-price").header(HttpHeaders.IF_NONE_MATCH, "W/" + eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("가격 수정이 커밋되면 이전 ETag로 조회해도 새 ETag와 함께 200")
+    void lowestPrice_AfterPriceUpdate_ReturnsNewETag() throws Exception {
+        String eTag = mockMvc.perform(get("/api/products/lowest-price"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put("/api/products/{id}", productId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"price\": 1000}"))
+                .andExpect(status().isOk());
+
+        String newETag = mockMvc.perform(get("/api/products/lowest-price").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categories[?(@.category == 'TOP')].brandName").value("ConditionalGetBrand"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newETag).isNotEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("카테고리 최저/최고가와 최저가 브랜드 조회도 같은 ETag로 304")
+    void categoryAndBrandLowestPrice_MatchingETag_ReturnNotModified() throws Exception {
+        String categoryETag = mockMvc.perform(get("/api/products/category/{category}", "상의"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/products/category/{category}", "상의")
+                        .header(HttpHeaders.IF_NONE_MATCH, categoryETag))
+                .andExpect(status().isNotModified());
+
+        String brandETag = mockMvc.perform(get("/api/brands/lowest-price"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/brands/lowest-price")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + brandETag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 브랜드가 없으면 ETag가 일치해도 304 대신 404")
+    void brandLowestPriceExcluding_NoBrandLeft_ReturnsNotFoundDespiteMatchingETag() throws Exception {
+        String eTag = mockMvc.perform(get("/api/products/lowest-price"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/brands/lowest-price")
+                        .param("excludeBrands", "A,B,C,D,E,F,G,H,I")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/brands/lowest-price")
+                        .param("excludeBrands", "A,B,C,D,E,F,G,H,I")
+                        .header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("잘못된 카테고리는 ETag 비교 전에 400")
+    void category_InvalidCategory_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/products/category/{category}", "없는카테고리")
+                        .header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,90 @@
+package org.service.brandcody.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 직렬화해 둔 가격 조회 응답: 같은 스냅샷 버전에서는 같은 바이트를, gzip 요청에는 미리 압축한 본문을 내려주는지 확인한다
+@SpringBootTest(properties = "brandcody.pricing.gzip-responses=true")
+@AutoConfigureMockMvc
+public class PriceResponseGzipApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Accept-Encoding: gzip 요청은 압축된 본문을 받고, 풀면 일반 응답과 같은 JSON")
+    void lowestPrice_AcceptsGzip_ReturnsCompressedJson() throws Exception {
+        byte[] plain = mockMvc.perform(get("/api/products/lowest-price"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        byte[] compressed = mockMvc.perform(get("/api/products/lowest-price")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        byte[] decompressed;
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            decompressed = gzip.readAllBytes();
+        }
+        assertThat(decompressed).isEqualTo(plain);
+        JsonNode root = objectMapper.readTree(decompressed);
+        assertThat(root.get("categories").isArray()).isTrue();
+    }
+
+    @Test
+    @DisplayName("gzip 본문은 일반 본문과 다른 ETag를 받고, 어느 ETag로 조건부 조회해도 요청한 표현의 ETag로 304")
+    void lowestPrice_GzipAndIdentity_UseDistinctETags() throws Exception {
+        String identityETag = mockMvc.perform(get("/api/products/lowest-price"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String gzipETag = mockMvc.perform(get("/api/products/lowest-price")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(gzipETag).isNotEqualTo(identityETag).endsWith("-gz\"");
+        mockMvc.perform(get("/api/products/lowest-price")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, identityETag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, gzipETag));
+        mockMvc.perform(get("/api/products/lowest-price")
+                        .header(HttpHeaders.IF_NONE_MATCH, gzipETag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, identityETag));
+    }
+
+    @Test
+    @DisplayName("gzip;q=0 요청은 압축하지 않은 본문을 받는다")
+    void brandLowestPrice_GzipRefused_ReturnsPlainJson() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/brands/lowest-price")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(objectMapper.readTree(body).get("brand").asText()).isNotBlank();
+    }
+}
@@ -0,0 +1,100 @@
+package org.service.brandcody.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.service.brandcody.domain.Brand;
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.domain.Product;
+import org.service.brandcody.index.BrandTotalIndex;
+import org.service.brandcody.index.CategoryPriceIndex;
+import org.service.brandcody.repository.BrandRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 가격 변경 SSE 스트림: 구독 직후 현재 상태를 받고, 커밋된 가격 수정이 상품 변경과 카테고리 최저가 변경으로 전달되는지 확인한다
+@SpringBootTest
+@AutoConfigureMockMvc
+public class PriceStreamApiTest {
+    private static final String BRAND_NAME = "PriceStreamBrand";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryPriceIndex categoryPriceIndex;
+
+    @Autowired
+    private BrandTotalIndex brandTotalIndex;
+
+    private Long brandId;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        Brand brand = new Brand();
+        brand.setName(BRAND_NAME);
+        brand.addProduct(new Product(Category.TOP, 50000));
+        Brand saved = brandRepository.save(brand);
+        brandId = saved.getId();
+        productId = saved.getProducts().getFirst().getId();
+        categoryPriceIndex.invalidate();
+        brandTotalIndex.invalidate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        brandRepository.deleteById(brandId);
+        categoryPriceIndex.invalidate();
+        brandTotalIndex.invalidate();
+    }
+
+    @Test
+    @DisplayName("구독하면 현재 최저/최고가를 받고, 가격 수정 후 상품 변경과 새 카테고리 최저가를 받는다")
+    void subscribe_ThenPriceUpdate_PushesProductAndCategoryMinimum() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/products/price-changes").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String initial = awaitContent(stream, "event:cheapest-brand");
+        assertThat(initial).contains("event:category-min", "event:category-max");
+        assertThat(initial).doesNotContain("event:product-price");
+
+        mockMvc.perform(put("/api/products/{id}", productId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"price\": 1}"))
+                .andExpect(status().isOk());
+
+        String updated = awaitContent(stream, "\"brands\":[\"" + BRAND_NAME + "\"]");
+        assertThat(updated).contains("event:product-price", "\"id\":" + productId, "\"price\":1");
+        assertThat(updated).contains("\"brands\":[\"" + BRAND_NAME + "\"]");
+    }
+
+    // 전송은 구독자별 가상 스레드에서 일어나므로 기대한 내용이 올 때까지 잠시 기다린다
+    private static String awaitContent(MvcResult stream, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String content = stream.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            content = stream.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        }
+        return content;
+    }
+}
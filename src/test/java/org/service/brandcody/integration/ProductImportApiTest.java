@@ -0,0 +1,107 @@
+package org.service.brandcody.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.service.brandcody.domain.Brand;
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.domain.Product;
+import org.service.brandcody.repository.BrandRepository;
+import org.service.brandcody.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class ProductImportApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Long brandId;
+
+    @BeforeEach
+    void setUp() {
+        Brand brand = new Brand();
+        brand.setName("ImportBrand");
+        brandId = brandRepository.save(brand).getId();
+    }
+
+    @Test
+    @DisplayName("JSON 배열로 상품 대량 등록")
+    void importProducts_Json_PersistsAllItems() throws Exception {
+        String body = "[" +
+                "{\"brandId\":" + brandId + ",\"category\":\"TOP\",\"price\":10000}," +
+                "{\"brandId\":" + brandId + ",\"category\":\"PANTS\",\"price\":4000}," +
+                "{\"brandId\":" + brandId + ",\"category\":\"HAT\",\"price\":1500}" +
+                "]";
+
+        mockMvc.perform(post("/api/products/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.importedCount").value(3))
+                .andExpect(jsonPath("$.brandCount").value(1));
+
+        List<Product> products = productRepository.findByBrandIdOrderByCategory(brandId);
+        assertThat(products).extracting(Product::getCategory)
+                .containsExactlyInAnyOrder(Category.TOP, Category.PANTS, Category.HAT);
+    }
+
+    @Test
+    @DisplayName("CSV로 상품 대량 등록 - 한글 카테고리명 허용")
+    void importProducts_Csv_PersistsAllItems() throws Exception {
+        String body = "brandId,category,price\n" +
+                brandId + ",TOP,10000\n" +
+                "\n" +
+                brandId + ",양말,1700\n";
+
+        mockMvc.perform(post("/api/products/bulk")
+                .contentType("text/csv")
+                .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.importedCount").value(2));
+
+        assertThat(productRepository.findByBrandIdAndCategory(brandId, Category.SOCKS))
+                .extracting(Product::getPrice).containsExactly(1700);
+    }
+
+    @Test
+    @DisplayName("대량 등록 - 존재하지 않는 브랜드가 포함되면 400")
+    void importProducts_UnknownBrand_ReturnsBadRequest() throws Exception {
+        String body = "[{\"brandId\":999999,\"category\":\"TOP\",\"price\":10000}]";
+
+        mockMvc.perform(post("/api/products/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Item 1: brand not found with id: 999999"));
+    }
+
+    @Test
+    @DisplayName("대량 등록 - CSV 헤더가 잘못되면 400")
+    void importProducts_InvalidCsvHeader_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/products/bulk")
+                .contentType("text/csv")
+                .content("brand,price\n1,1000\n"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,146 @@
+package org.service.brandcody.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.service.brandcody.domain.Brand;
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.domain.Product;
+import org.service.brandcody.index.BrandTotalIndex;
+import org.service.brandcody.index.CategoryPriceIndex;
+import org.service.brandcody.repository.BrandRepository;
+import org.service.brandcody.service.ProductService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 낙관적 락 충돌이 심한 가격 수정 부하에서 플랫폼 스레드 풀과 가상 스레드의 처리량을 비교한다.
+// 재시도 백오프 동안 플랫폼 스레드는 묶여 있지만 가상 스레드는 캐리어를 놓아주므로, 동시성의 상한은 커넥션 풀이 된다.
+// 실행: ./gradlew loadTest
+@Tag("load")
+@SpringBootTest
+public class VirtualThreadLoadTest {
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadLoadTest.class);
+
+    private static final int TASKS = 400;
+    private static final int HOT_PRODUCTS = 4;
+    // 요청 스레드 수가 제한된 톰캣을 흉내 내는 플랫폼 스레드 풀 크기
+    private static final int PLATFORM_THREADS = 40;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryPriceIndex categoryPriceIndex;
+
+    @Autowired
+    private BrandTotalIndex brandTotalIndex;
+
+    private Long brandId;
+    private final List<Long> productIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Brand brand = new Brand();
+        brand.setName("VirtualThreadLoadBrand");
+        for (int i = 0; i < HOT_PRODUCTS; i++) {
+            brand.addProduct(new Product(Category.values()[i], 10000));
+        }
+        Brand saved = brandRepository.save(brand);
+        brandId = saved.getId();
+        saved.getProducts().forEach(product -> productIds.add(product.getId()));
+        categoryPriceIndex.invalidate();
+        brandTotalIndex.invalidate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        brandRepository.deleteById(brandId);
+        categoryPriceIndex.invalidate();
+        brandTotalIndex.invalidate();
+    }
+
+    @Test
+    @DisplayName("충돌이 심한 가격 수정 부하 - 플랫폼 스레드 풀 대비 가상 스레드 처리량 비교")
+    void contendedPriceUpdates_PlatformVersusVirtualThreads() throws Exception {
+        LoadResult platform;
+        try (ExecutorService executor = Executors.newFixedThreadPool(PLATFORM_THREADS)) {
+            platform = run(executor);
+        }
+        LoadResult virtual;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            virtual = run(executor);
+        }
+
+        log.info("Platform threads ({}): {}", PLATFORM_THREADS, platform);
+        log.info("Virtual threads: {}", virtual);
+        log.info("Throughput ratio (virtual / platform): {}",
+                String.format("%.2f", virtual.throughput() / platform.throughput()));
+
+        // 처리량 수치는 환경마다 다르므로 기록만 하고, 모든 요청이 성공 또는 재시도 소진으로 끝났는지 확인한다
+        assertThat(platform.succeeded() + platform.exhausted()).isEqualTo(TASKS);
+        assertThat(virtual.succeeded() + virtual.exhausted()).isEqualTo(TASKS);
+        assertThat(platform.succeeded()).isPositive();
+        assertThat(virtual.succeeded()).isPositive();
+    }
+
+    private LoadResult run(ExecutorService executor) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(TASKS);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger exhausted = new AtomicInteger();
+
+        for (int i = 0; i < TASKS; i++) {
+            Long productId = productIds.get(i % HOT_PRODUCTS);
+            int price = 10000 + i;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    productService.updateProduct(productId, price);
+                    succeeded.incrementAndGet();
+                } catch (ObjectOptimisticLockingFailureException e) {
+                    exhausted.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        assertThat(done.await(5, TimeUnit.MINUTES)).as("모든 요청이 제한 시간 내에 끝나야 함").isTrue();
+        long elapsedNanos = System.nanoTime() - startedAt;
+        return new LoadResult(succeeded.get(), exhausted.get(), elapsedNanos);
+    }
+
+    private record LoadResult(int succeeded, int exhausted, long elapsedNanos) {
+        double throughput() {
+            return (succeeded + exhausted) / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("succeeded=%d, exhausted=%d, elapsed=%d ms, throughput=%.1f req/s",
+                    succeeded, exhausted, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), throughput());
+        }
+    }
+}
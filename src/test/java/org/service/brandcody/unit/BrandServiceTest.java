@@ -10,14 +10,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.service.brandcody.domain.Brand;
 import org.service.brandcody.domain.Category;
 import org.service.brandcody.domain.Product;
-import org.service.brandcody.dto.BrandTotalProjection;
+import org.service.brandcody.dto.BrandView;
+import org.service.brandcody.event.BrandChangedEvent;
+import org.service.brandcody.index.BrandTotal;
+import org.service.brandcody.index.PricingSnapshot;
+import org.service.brandcody.index.PricingSnapshotHolder;
 import org.service.brandcody.repository.BrandRepository;
 import org.service.brandcody.service.BrandService;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.context.ApplicationEventPublisher;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
@@ -32,6 +37,12 @@ public class BrandServiceTest {
     @Mock
     private BrandRepository brandRepository;
 
+    @Mock
+    private PricingSnapshotHolder pricingSnapshotHolder;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BrandService brandService;
 
@@ -48,29 +59,29 @@ public class BrandServiceTest {
     @DisplayName("브랜드 ID로 브랜드 조회 - 정상 케이스")
     void getBrandById_ExistingBrand_ReturnsBrand() {
         // Given
-        when(brandRepository.findById(1L)).thenReturn(Optional.of(testBrand));
+        when(brandRepository.findViewById(1L)).thenReturn(Optional.of(new BrandView(1L, "TestBrand")));
 
         // When
-        Brand result = brandService.getBrandById(1L);
+        BrandView result = brandService.getBrandById(1L);
 
         // Then
         assertThat(result).isNotNull();
-        assertThat(result.getId()).isEqualTo(1L);
-        assertThat(result.getName()).isEqualTo("TestBrand");
-        verify(brandRepository).findById(1L);
+        assertThat(result.id()).isEqualTo(1L);
+        assertThat(result.name()).isEqualTo("TestBrand");
+        verify(brandRepository).findViewById(1L);
     }
 
     @Test
     @DisplayName("브랜드 ID로 브랜드 조회 - 브랜드가 존재하지 않는 경우")
     void getBrandById_NonExistingBrand_ThrowsException() {
         // Given
-        when(brandRepository.findById(99L)).thenReturn(Optional.empty());
+        when(brandRepository.findViewById(99L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> brandService.getBrandById(99L))
                 .isInstanceOf(NoSuchElementException.class)
                 .hasMessageContaining("Brand not found with id: 99");
-        verify(brandRepository).findById(99L);
+        verify(brandRepository).findViewById(99L);
     }
 
     @Test
@@ -78,16 +89,16 @@ public class BrandServiceTest {
     void getBrandByName_ExistingBrand_ReturnsBrand() {
         // Given
         String brandName = "TestBrand";
-        when(brandRepository.findByName(brandName)).thenReturn(Optional.of(testBrand));
+        when(brandRepository.findViewByName(brandName)).thenReturn(Optional.of(new BrandView(1L, brandName)));
 
         // When
-        Brand result = brandService.getBrandByName(brandName);
+        BrandView result = brandService.getBrandByName(brandName);
 
         // Then
         assertThat(result).isNotNull();
-        assertThat(result.getId()).isEqualTo(1L);
-        assertThat(result.getName()).isEqualTo(brandName);
-        verify(brandRepository).findByName(brandName);
+        assertThat(result.id()).isEqualTo(1L);
+        assertThat(result.name()).isEqualTo(brandName);
+        verify(brandRepository).findViewByName(brandName);
     }
 
     @Test
@@ -95,13 +106,13 @@ public class BrandServiceTest {
     void getBrandByName_NonExistingBrand_ThrowsException() {
         // Given
         String brandName = "NonExistingBrand";
-        when(brandRepository.findByName(brandName)).thenReturn(Optional.empty());
+        when(brandRepository.findViewByName(brandName)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> brandService.getBrandByName(brandName))
                 .isInstanceOf(NoSuchElementException.class)
                 .hasMessageContaining("Brand not found with name: NonExistingBrand");
-        verify(brandRepository).findByName(brandName);
+        verify(brandRepository).findViewByName(brandName);
     }
 
     @Test
@@ -162,6 +173,7 @@ public class BrandServiceTest {
         assertThat(result.getName()).isEqualTo(newName);
         verify(brandRepository).findById(brandId);
         verify(brandRepository).save(any(Brand.class));
+        verify(eventPublisher).publishEvent(BrandChangedEvent.renamed(brandId, "TestBrand", newName));
     }
 
     @Test
@@ -196,6 +208,7 @@ public class BrandServiceTest {
         // Then
         verify(brandRepository).findById(brandId);
         verify(brandRepository).delete(testBrand);
+        verify(eventPublisher).publishEvent(BrandChangedEvent.deleted(brandId, "TestBrand"));
     }
 
     @Test
@@ -217,66 +230,60 @@ public class BrandServiceTest {
     @DisplayName("최저가 합계 브랜드 찾기 - 정상 케이스")
     void findBrandWithLowestTotalPrice_ExistingBrands_ReturnsLowestPriceBrand() {
         // Given
-        Brand brand = new Brand();
-        brand.setId(1L);
-        brand.setName("CheapestBrand");
-
-        BrandTotalProjection projection = BrandTotalProjection.of(brand, 31700);
-        List<BrandTotalProjection> projections = List.of(projection);
-
-        when(brandRepository.findBrandWithLowestTotalPrice(any(PageRequest.class))).thenReturn(projections);
+        Map<Category, Integer> cheapestPrices = new EnumMap<>(Category.class);
+        for (Category category : Category.values()) {
+            cheapestPrices.put(category, 1000);
+        }
+        when(pricingSnapshotHolder.current())
+                .thenReturn(snapshotOf(List.of(new BrandTotal(1L, "CheapestBrand", 8000, cheapestPrices))));
 
         // When
-        BrandTotalProjection result = brandService.findBrandWithLowestTotalPrice();
+        BrandTotal result = brandService.findBrandWithLowestTotalPrice();
 
         // Then
         assertThat(result).isNotNull();
-        assertThat(result.brand().getName()).isEqualTo("CheapestBrand");
-        assertThat(result.totalPrice()).isEqualTo(31700);
-        verify(brandRepository).findBrandWithLowestTotalPrice(any(PageRequest.class));
+        assertThat(result.brandName()).isEqualTo("CheapestBrand");
+        assertThat(result.totalPrice()).isEqualTo(8000);
+        assertThat(result.cheapestPrices()).containsOnlyKeys(Category.values());
+        // 스냅샷에 필요한 값이 모두 있으므로 브랜드를 다시 조회하지 않는다
+        verifyNoInteractions(brandRepository);
     }
 
     @Test
     @DisplayName("최저가 합계 브랜드 찾기 - 상품이 부족한 경우")
     void findBrandWithLowestTotalPrice_InsufficientProducts_ThrowsException() {
         // Given
-        when(brandRepository.findBrandWithLowestTotalPrice(any(PageRequest.class))).thenReturn(new ArrayList<>());
+        when(pricingSnapshotHolder.current()).thenReturn(snapshotOf(List.of()));
 
         // When & Then
         assertThatThrownBy(() -> brandService.findBrandWithLowestTotalPrice())
                 .isInstanceOf(NoSuchElementException.class)
                 .hasMessageContaining("모든 카테고리의 상품을 보유한 브랜드를 찾을 수 없습니다");
-        verify(brandRepository).findBrandWithLowestTotalPrice(any(PageRequest.class));
+        verifyNoInteractions(brandRepository);
     }
 
     @Test
     @DisplayName("모든 브랜드의 총액 조회")
     void findAllBrandsWithTotalPrice_ReturnsAllBrands() {
         // Given
-        Brand brand1 = new Brand();
-        brand1.setId(1L);
-        brand1.setName("Brand1");
-
-        Brand brand2 = new Brand();
-        brand2.setId(2L);
-        brand2.setName("Brand2");
-
-        List<BrandTotalProjection> projections = Arrays.asList(
-                BrandTotalProjection.of(brand1, 35000),
-                BrandTotalProjection.of(brand2, 37000)
-        );
-
-        when(brandRepository.findAllBrandsWithTotalPrice()).thenReturn(projections);
+        when(pricingSnapshotHolder.current()).thenReturn(snapshotOf(Arrays.asList(
+                new BrandTotal(1L, "Brand1", 35000),
+                new BrandTotal(2L, "Brand2", 37000)
+        )));
 
         // When
-        List<BrandTotalProjection> results = brandService.findAllBrandsWithTotalPrice();
+        List<BrandTotal> results = brandService.findAllBrandsWithTotalPrice();
 
         // Then
         assertThat(results).hasSize(2);
-        assertThat(results.get(0).brand().getName()).isEqualTo("Brand1");
+        assertThat(results.get(0).brandName()).isEqualTo("Brand1");
         assertThat(results.get(0).totalPrice()).isEqualTo(35000);
-        assertThat(results.get(1).brand().getName()).isEqualTo("Brand2");
+        assertThat(results.get(1).brandName()).isEqualTo("Brand2");
         assertThat(results.get(1).totalPrice()).isEqualTo(37000);
-        verify(brandRepository).findAllBrandsWithTotalPrice();
+        verifyNoInteractions(brandRepository);
+    }
+
+    private static PricingSnapshot snapshotOf(List<BrandTotal> brandRanking) {
+        return new PricingSnapshot(1L, Map.of(), brandRanking);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,114 @@
+package org.service.brandcody.unit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.index.BrandTotal;
+import org.service.brandcody.index.BrandTotalIndex;
+import org.service.brandcody.index.PriceEntry;
+import org.service.brandcody.repository.ProductRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BrandTotalIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private BrandTotalIndex brandTotalIndex;
+
+    private long nextProductId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        List<PriceEntry> entries = new ArrayList<>();
+        entries.addAll(fullSet(1L, "BrandA", 1000));
+        entries.addAll(fullSet(2L, "BrandB", 1100));
+        // BrandC는 ACCESSORY 상품이 없어 순위에서 제외되어야 함
+        entries.addAll(fullSet(3L, "BrandC", 500).subList(0, Category.values().length - 1));
+        when(productRepository.findAllPriceEntries()).thenReturn(entries);
+    }
+
+    @Test
+    @DisplayName("모든 카테고리를 보유한 브랜드만 총액순으로 정렬")
+    void findAllTotals_OnlyCompleteBrandsOrderedByTotal() {
+        // When
+        List<BrandTotal> totals = brandTotalIndex.findAllTotals();
+
+        // Then
+        assertThat(totals).extracting(BrandTotal::brandName).containsExactly("BrandA", "BrandB");
+        assertThat(totals.getFirst().totalPrice()).isEqualTo(1000 * Category.values().length);
+        verify(productRepository, times(1)).findAllPriceEntries();
+    }
+
+    @Test
+    @DisplayName("카테고리 최저가 변경 시 합계와 순위가 증분 갱신됨")
+    void put_CheaperProduct_AdjustsTotalAndRanking() {
+        // Given
+        brandTotalIndex.reload();
+
+        // When: BrandB에 더 싼 TOP 상품 추가, BrandA의 TOP 가격 인상
+        brandTotalIndex.put(new PriceEntry(100L, 2L, "BrandB", Category.TOP, 100, 0L));
+        brandTotalIndex.put(new PriceEntry(1L, 1L, "BrandA", Category.TOP, 5000, 0L));
+
+        // Then
+        List<BrandTotal> totals = brandTotalIndex.findAllTotals();
+        assertThat(totals).extracting(BrandTotal::brandName).containsExactly("BrandB", "BrandA");
+        assertThat(totals.get(0).totalPrice()).isEqualTo(1100 * (Category.values().length - 1) + 100);
+        assertThat(totals.get(1).totalPrice()).isEqualTo(1000 * (Category.values().length - 1) + 5000);
+        verify(productRepository, times(1)).findAllPriceEntries();
+    }
+
+    @Test
+    @DisplayName("카테고리의 마지막 상품 삭제 시 순위에서 제외, 추가 시 다시 포함")
+    void removeAndPut_TogglesCompleteness() {
+        // Given
+        brandTotalIndex.reload();
+
+        // When
+        brandTotalIndex.remove(1L, 0L);
+
+        // Then
+        assertThat(brandTotalIndex.findLowestTotal()).map(BrandTotal::brandName).contains("BrandB");
+
+        // When
+        brandTotalIndex.put(new PriceEntry(200L, 3L, "BrandC", Category.ACCESSORY, 500, 0L));
+
+        // Then
+        assertThat(brandTotalIndex.findLowestTotal()).map(BrandTotal::brandName).contains("BrandC");
+        assertThat(brandTotalIndex.findLowestTotal()).map(BrandTotal::totalPrice).contains(500 * Category.values().length);
+    }
+
+    @Test
+    @DisplayName("브랜드 삭제 및 이름 변경 반영")
+    void removeBrandAndRename_UpdatesRanking() {
+        // Given
+        brandTotalIndex.reload();
+
+        // When
+        brandTotalIndex.removeBrand(1L);
+        brandTotalIndex.renameBrand(2L, "BrandZ");
+
+        // Then
+        assertThat(brandTotalIndex.findAllTotals()).extracting(BrandTotal::brandName).containsExactly("BrandZ");
+    }
+
+    private List<PriceEntry> fullSet(Long brandId, String brandName, int price) {
+        List<PriceEntry> entries = new ArrayList<>();
+        for (Category category : Category.values()) {
+            entries.add(new PriceEntry(nextProductId++, brandId, brandName, category, price, 0L));
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,68 @@
+package org.service.brandcody.unit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.service.brandcody.cache.EstimatedSizeWeigher;
+import org.service.brandcody.config.CachePolicyProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CachePolicyPropertiesTest {
+
+    @Test
+    @DisplayName("캐시별 정책 - 지정하지 않은 항목은 기본값을 따름")
+    void policyFor_MergesWithDefaults() {
+        // Given
+        CachePolicyProperties properties = new CachePolicyProperties();
+        properties.getDefaults().setExpireAfterWrite(Duration.ofMinutes(5));
+        properties.getDefaults().setMaximumSize(1000L);
+
+        CachePolicyProperties.Policy byId = new CachePolicyProperties.Policy();
+        byId.setExpireAfterAccess(Duration.ofMinutes(1));
+        properties.getCaches().put("byId", byId);
+
+        // When
+        CachePolicyProperties.Policy merged = properties.policyFor("byId");
+
+        // Then
+        assertThat(merged.getExpireAfterWrite()).isEqualTo(Duration.ofMinutes(5));
+        assertThat(merged.getExpireAfterAccess()).isEqualTo(Duration.ofMinutes(1));
+        assertThat(merged.getMaximumSize()).isEqualTo(1000L);
+        assertThat(properties.policyFor("unconfigured")).isSameAs(properties.getDefaults());
+    }
+
+    @Test
+    @DisplayName("캐시별 정책 - 바이트 제한을 지정하면 기본 항목 수 제한을 쓰지 않음")
+    void policyFor_WeightedCache_IgnoresDefaultMaximumSize() {
+        // Given
+        CachePolicyProperties properties = new CachePolicyProperties();
+        properties.getDefaults().setMaximumSize(1000L);
+
+        CachePolicyProperties.Policy listCache = new CachePolicyProperties.Policy();
+        listCache.setMaximumWeight(DataSize.ofMegabytes(16));
+        properties.getCaches().put("listCache", listCache);
+
+        // When
+        CachePolicyProperties.Policy merged = properties.policyFor("listCache");
+
+        // Then
+        assertThat(merged.isWeighted()).isTrue();
+        assertThat(merged.getMaximumSize()).isNull();
+    }
+
+    @Test
+    @DisplayName("추정 크기 가중치 - 목록 값은 원소 수에 비례")
+    void estimatedSizeWeigher_WeighsCollectionsBySize() {
+        // Given
+        EstimatedSizeWeigher weigher = new EstimatedSizeWeigher(100);
+
+        // When & Then
+        assertThat(weigher.weigh("key", "single")).isEqualTo(100);
+        assertThat(weigher.weigh("key", List.of(1, 2, 3))).isEqualTo(64 + 300);
+        assertThat(weigher.weigh("key", List.of())).isEqualTo(64);
+    }
+}
@@ -0,0 +1,73 @@
+package org.service.brandcody.unit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.service.brandcody.cache.CacheKeys;
+import org.service.brandcody.cache.CacheRegistryVerifier;
+import org.service.brandcody.config.CacheConfig;
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.service.BrandService;
+import org.service.brandcody.service.ProductService;
+import org.springframework.cache.annotation.Cacheable;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CacheRegistryVerifierTest {
+
+    @Test
+    @DisplayName("서비스의 @Cacheable 메서드는 각자 등록된 전용 캐시를 사용")
+    void services_UseDedicatedRegisteredCaches() {
+        Map<String, List<String>> owners = CacheRegistryVerifier.cacheableMethods(List.of(ProductService.class, BrandService.class));
+
+        assertThat(owners).containsKeys(
+                CacheConfig.PRODUCT_BY_BRAND_CATEGORY_CACHE,
+                CacheConfig.CHEAPEST_PRODUCT_BY_BRAND_CATEGORY_CACHE);
+        assertThatCode(() -> CacheRegistryVerifier.verify(owners, CacheConfig.CACHE_NAMES)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("두 메서드가 같은 캐시를 쓰면 기동 실패")
+    void sharedCache_FailsVerification() {
+        Map<String, List<String>> owners = CacheRegistryVerifier.cacheableMethods(List.of(SharedCacheService.class));
+
+        assertThatThrownBy(() -> CacheRegistryVerifier.verify(owners, List.of("shared")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("shared is shared by");
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 캐시를 쓰면 기동 실패")
+    void unregisteredCache_FailsVerification() {
+        Map<String, List<String>> owners = CacheRegistryVerifier.cacheableMethods(List.of(SharedCacheService.class));
+
+        assertThatThrownBy(() -> CacheRegistryVerifier.verify(owners, List.of()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("not registered");
+    }
+
+    @Test
+    @DisplayName("복합 키는 필드 값이 같을 때만 같은 키")
+    void compositeKeys_CompareByValue() {
+        assertThat(CacheKeys.brandCategory(1L, Category.TOP)).isEqualTo(CacheKeys.brandCategory(1L, Category.TOP));
+        assertThat(CacheKeys.brandCategory(1L, Category.TOP)).isNotEqualTo(CacheKeys.brandCategory(1L, Category.PANTS));
+        // 레코드 키는 필드별로 비교하므로 구분자 선택에 기대지 않는다
+        assertThat(CacheKeys.page(1, 12)).isNotEqualTo(CacheKeys.page(11, 2));
+    }
+
+    static class SharedCacheService {
+        @Cacheable("shared")
+        public List<String> all() {
+            return List.of();
+        }
+
+        @Cacheable("shared")
+        public int total() {
+            return 0;
+        }
+    }
+}
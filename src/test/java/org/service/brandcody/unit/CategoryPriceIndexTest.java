@@ -0,0 +1,112 @@
+package org.service.brandcody.unit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.dto.CategoryBrandPriceDto;
+import org.service.brandcody.index.CategoryPriceIndex;
+import org.service.brandcody.index.PriceEntry;
+import org.service.brandcody.repository.ProductRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CategoryPriceIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private CategoryPriceIndex categoryPriceIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(productRepository.findAllPriceEntries()).thenReturn(List.of(
+                new PriceEntry(1L, 1L, "BrandA", Category.TOP, 10000, 0L),
+                new PriceEntry(2L, 2L, "BrandB", Category.TOP, 9000, 0L),
+                new PriceEntry(3L, 3L, "BrandC", Category.TOP, 9000, 0L),
+                new PriceEntry(4L, 1L, "BrandA", Category.PANTS, 4000, 0L),
+                new PriceEntry(5L, 2L, "BrandB", Category.PANTS, 5000, 0L)
+        ));
+    }
+
+    @Test
+    @DisplayName("카테고리 최저가 조회 - 동일 가격 브랜드를 모두 반환")
+    void findLowestPriceByCategory_WithTies_ReturnsAllTiedBrands() {
+        // When
+        List<CategoryBrandPriceDto> result = categoryPriceIndex.findLowestPriceByCategory(Category.TOP);
+
+        // Then
+        assertThat(result).extracting(CategoryBrandPriceDto::getBrandName).containsExactly("BrandB", "BrandC");
+        assertThat(result).extracting(CategoryBrandPriceDto::getPrice).containsOnly(9000);
+        verify(productRepository, times(1)).findAllPriceEntries();
+    }
+
+    @Test
+    @DisplayName("카테고리 최고가 조회")
+    void findHighestPriceByCategory_ReturnsMostExpensiveBrand() {
+        // When
+        List<CategoryBrandPriceDto> result = categoryPriceIndex.findHighestPriceByCategory(Category.TOP);
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.getFirst().getBrandName()).isEqualTo("BrandA");
+        assertThat(result.getFirst().getPrice()).isEqualTo(10000);
+    }
+
+    @Test
+    @DisplayName("가격 변경, 삭제, 브랜드명 변경이 DB 재조회 없이 반영됨")
+    void writes_UpdateIndexWithoutReloading() {
+        // Given
+        categoryPriceIndex.reload();
+
+        // When
+        categoryPriceIndex.put(new PriceEntry(1L, 1L, "BrandA", Category.TOP, 8000, 1L));
+        categoryPriceIndex.remove(4L, 0L);
+        categoryPriceIndex.renameBrand(2L, "BrandZ");
+
+        // Then
+        assertThat(categoryPriceIndex.findLowestPriceByCategory(Category.TOP))
+                .extracting(CategoryBrandPriceDto::getBrandName).containsExactly("BrandA");
+        assertThat(categoryPriceIndex.findHighestPriceByCategory(Category.TOP))
+                .extracting(CategoryBrandPriceDto::getBrandName).containsExactlyInAnyOrder("BrandC", "BrandZ");
+        assertThat(categoryPriceIndex.findLowestPriceByCategory(Category.PANTS))
+                .extracting(CategoryBrandPriceDto::getBrandName).containsExactly("BrandZ");
+        verify(productRepository, times(1)).findAllPriceEntries();
+    }
+
+    @Test
+    @DisplayName("같은 가격으로 버전만 올라간 갱신도 상품이 카테고리 목록에 남는다")
+    void put_SamePriceHigherVersion_KeepsProductInCategory() {
+        // Given
+        categoryPriceIndex.reload();
+
+        // When: 같은 가격으로 다시 저장되어 버전만 올라간다
+        categoryPriceIndex.put(new PriceEntry(2L, 2L, "BrandB", Category.TOP, 9000, 1L));
+
+        // Then
+        assertThat(categoryPriceIndex.findLowestPriceByCategory(Category.TOP))
+                .extracting(CategoryBrandPriceDto::getBrandName).containsExactly("BrandB", "BrandC");
+        assertThat(categoryPriceIndex.findTopOffers(Category.TOP, 5).cheapest())
+                .extracting(CategoryBrandPriceDto::getBrandName).containsExactly("BrandB", "BrandC", "BrandA");
+    }
+
+    @Test
+    @DisplayName("전체 카테고리 최저가 조회 - 상품이 없는 카테고리는 제외")
+    void findLowestPriceByAllCategories_SkipsEmptyCategories() {
+        // When
+        List<CategoryBrandPriceDto> result = categoryPriceIndex.findLowestPriceByAllCategories();
+
+        // Then
+        assertThat(result).extracting(CategoryBrandPriceDto::getCategory)
+                .containsExactly(Category.TOP, Category.TOP, Category.PANTS);
+    }
+}
@@ -0,0 +1,73 @@
+package org.service.brandcody.unit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.service.brandcody.cache.CoalescingCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CoalescingCacheTest {
+
+    @Test
+    @DisplayName("동시 캐시 미스 - 계산은 한 번만 수행되고 대기한 호출 수가 집계됨")
+    void get_ConcurrentMisses_LoadOnceAndCountCoalescedCallers() throws Exception {
+        // Given
+        CoalescingCache cache = new CoalescingCache(new ConcurrentMapCache("aggregate"));
+        AtomicInteger loaderCalls = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread first = new Thread(() -> cache.get("key", () -> {
+            loaderCalls.incrementAndGet();
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 34000;
+        }));
+        AtomicReference<Integer> secondResult = new AtomicReference<>();
+        Thread second = new Thread(() -> secondResult.set(cache.get("key", () -> {
+            loaderCalls.incrementAndGet();
+            return -1;
+        })));
+
+        // When
+        first.start();
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        second.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (second.getState() != Thread.State.BLOCKED && second.getState() != Thread.State.WAITING
+                && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        first.join();
+        second.join();
+
+        // Then
+        assertThat(loaderCalls.get()).isEqualTo(1);
+        assertThat(secondResult.get()).isEqualTo(34000);
+        assertThat(cache.getLoadCount()).isEqualTo(1);
+        assertThat(cache.getCoalescedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시 적중 - 계산이 진행 중이 아니면 합류로 집계하지 않음")
+    void get_CachedValue_IsNotCountedAsCoalesced() {
+        // Given
+        CoalescingCache cache = new CoalescingCache(new ConcurrentMapCache("aggregate"));
+        cache.get("key", () -> 34000);
+
+        // When
+        Integer result = cache.get("key", () -> -1);
+
+        // Then
+        assertThat(result).isEqualTo(34000);
+        assertThat(cache.getLoadCount()).isEqualTo(1);
+        assertThat(cache.getCoalescedCount()).isZero();
+    }
+}
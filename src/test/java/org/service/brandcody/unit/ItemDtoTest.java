@@ -0,0 +1,24 @@
+package org.service.brandcody.unit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.service.brandcody.dto.ItemDto;
+
+import java.text.NumberFormat;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemDtoTest {
+
+    @Test
+    @DisplayName("가격 포맷 - Locale.KOREA NumberFormat과 같은 결과")
+    void formatPrice_MatchesKoreanNumberFormat() {
+        int[] prices = {0, 7, 999, 1000, 10000, 123456, 1000000, -1500, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        NumberFormat numberFormat = NumberFormat.getNumberInstance(Locale.KOREA);
+
+        for (int price : prices) {
+            assertThat(ItemDto.formatPrice(price)).isEqualTo(numberFormat.format(price) + "원");
+        }
+    }
+}
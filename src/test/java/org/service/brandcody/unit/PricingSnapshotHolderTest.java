@@ -0,0 +1,245 @@
+package org.service.brandcody.unit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.service.brandcody.config.PricingProperties;
+import org.service.brandcody.domain.Category;
+import org.service.brandcody.dto.BrandExclusions;
+import org.service.brandcody.dto.CategoryBrandPriceDto;
+import org.service.brandcody.index.BrandTotal;
+import org.service.brandcody.index.BrandTotalIndex;
+import org.service.brandcody.index.CategoryPriceIndex;
+import org.service.brandcody.index.PriceEntry;
+import org.service.brandcody.index.PricingSnapshot;
+import org.service.brandcody.index.PricingSnapshotChangedEvent;
+import org.service.brandcody.index.PricingSnapshotHolder;
+import org.service.brandcody.repository.ProductRepository;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PricingSnapshotHolderTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CategoryPriceIndex categoryPriceIndex;
+    private BrandTotalIndex brandTotalIndex;
+    private PricingSnapshotHolder pricingSnapshotHolder;
+
+    @BeforeEach
+    void setUp() {
+        // BrandA(상품 ID 1~8)는 카테고리마다 1000원, BrandB(상품 ID 11~18)는 2000원
+        List<PriceEntry> entries = new ArrayList<>();
+        for (Category category : Category.values()) {
+            entries.add(new PriceEntry(1L + category.ordinal(), 1L, "BrandA", category, 1000, 0L));
+            entries.add(new PriceEntry(11L + category.ordinal(), 2L, "BrandB", category, 2000, 0L));
+        }
+        when(productRepository.findAllPriceEntries()).thenReturn(entries);
+
+        categoryPriceIndex = new CategoryPriceIndex(productRepository);
+        brandTotalIndex = new BrandTotalIndex(productRepository);
+        pricingSnapshotHolder = new PricingSnapshotHolder(categoryPriceIndex, brandTotalIndex, eventPublisher, new PricingProperties());
+    }
+
+    @Test
+    @DisplayName("스냅샷 조회 - 변경이 없으면 같은 스냅샷을 재계산 없이 반환")
+    void current_WithoutChanges_ReturnsSameSnapshot() {
+        // When
+        PricingSnapshot first = pricingSnapshotHolder.current();
+        PricingSnapshot second = pricingSnapshotHolder.current();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.totalLowestPrice()).isEqualTo(1000 * Category.values().length);
+        assertThat(first.lowestTotalBrand()).map(BrandTotal::brandName).contains("BrandA");
+        assertThat(first.priceRange(Category.TOP).highest())
+                .extracting(CategoryBrandPriceDto::getBrandName).containsExactly("BrandB");
+        verify(productRepository, times(2)).findAllPriceEntries();
+    }
+
+    @Test
+    @DisplayName("변경 반영 - 바뀐 카테고리만 다시 계산하고 나머지는 기존 값을 재사용")
+    void apply_PriceChange_PatchesOnlyChangedCategory() {
+        // Given
+        PricingSnapshot before = pricingSnapshotHolder.current();
+        PriceEntry cheaperTop = new PriceEntry(11L, 2L, "BrandB", Category.TOP, 500, 1L);
+
+        // When
+        pricingSnapshotHolder.apply(Set.of(Category.TOP), List.of(() -> {
+            categoryPriceIndex.put(cheaperTop);
+            brandTotalIndex.put(cheaperTop);
+        }), false);
+        PricingSnapshot after = pricingSnapshotHolder.current();
+
+        // Then
+        assertThat(after.version()).isGreaterThan(before.version());
+        assertThat(after.priceRange(Category.TOP).lowest())
+                .extracting(CategoryBrandPriceDto::getBrandName).containsExactly("BrandB");
+        assertThat(after.priceRange(Category.PANTS)).isSameAs(before.priceRange(Category.PANTS));
+        assertThat(after.totalLowestPrice()).isEqualTo(before.totalLowestPrice() - 500);
+        // 이전 스냅샷은 그대로 남아 있어 읽던 쪽이 섞인 값을 보지 않는다
+        assertThat(before.priceRange(Category.TOP).lowest())
+                .extracting(CategoryBrandPriceDto::getBrandName).containsExactly("BrandA");
+        verify(productRepository, times(2)).findAllPriceEntries();
+        // 구독자에게 직전 스냅샷과 새 스냅샷을 함께 알린다
+        verify(eventPublisher).publishEvent(new PricingSnapshotChangedEvent(before, after));
+    }
+
+    @Test
+    @DisplayName("변경 반영 - 같은 상품의 갱신이 뒤바뀐 순서로 도착해도 더 새 버전의 가격을 유지")
+    void apply_OutOfOrderChanges_KeepsNewerVersion() {
+        // Given: 버전 1(1500원) 이후 버전 2(500원)로 커밋됐지만 버전 2가 먼저 반영된다
+        PriceEntry newer = new PriceEntry(11L, 2L, "BrandB", Category.TOP, 500, 2L);
+        PriceEntry older = new PriceEntry(11L, 2L, "BrandB", Category.TOP, 1500, 1L);
+        // 인덱스는 적재된 뒤에만 개별 변경을 반영하므로 먼저 스냅샷을 만들어 둔다
+        pricingSnapshotHolder.current();
+
+        // When
+        for (PriceEntry entry : List.of(newer, older)) {
+            pricingSnapshotHolder.apply(Set.of(Category.TOP), List.of(() -> {
+                categoryPriceIndex.put(entry);
+                brandTotalIndex.put(entry);
+            }), false);
+        }
+        PricingSnapshot snapshot = pricingSnapshotHolder.current();
+
+        // Then
+        assertThat(snapshot.priceRange(Category.TOP).lowest())
+                .extracting(CategoryBrandPriceDto::getBrandName, CategoryBrandPriceDto::getPrice)
+                .containsExactly(tuple("BrandB", 500));
+        assertThat(snapshot.lowestTotalBrandExcluding(BrandExclusions.of(List.of("BrandA"))))
+                .map(BrandTotal::totalPrice)
+                .contains(2000 * (Category.values().length - 1) + 500);
+    }
+
+    @Test
+    @DisplayName("변경 반영 - 삭제 뒤에 늦게 도착한 이전 갱신은 삭제된 상품을 되살리지 않는다")
+    void apply_StalePutAfterDelete_DoesNotResurrectProduct() {
+        // Given: 버전 1에서 500원으로 바뀐 뒤 삭제됐지만 삭제가 먼저 반영된다
+        PriceEntry stale = new PriceEntry(11L, 2L, "BrandB", Category.TOP, 500, 1L);
+        // 인덱스는 적재된 뒤에만 개별 변경을 반영하므로 먼저 스냅샷을 만들어 둔다
+        pricingSnapshotHolder.current();
+
+        // When
+        pricingSnapshotHolder.apply(Set.of(Category.TOP), List.of(() -> {
+            categoryPriceIndex.remove(11L, 1L);
+            brandTotalIndex.remove(11L, 1L);
+        }), false);
+        pricingSnapshotHolder.apply(Set.of(Category.TOP), List.of(() -> {
+            categoryPriceIndex.put(stale);
+            brandTotalIndex.put(stale);
+        }), false);
+        PricingSnapshot snapshot = pricingSnapshotHolder.current();
+
+        // Then
+        assertThat(snapshot.priceRange(Category.TOP).lowest())
+                .extracting(CategoryBrandPriceDto::getBrandName, CategoryBrandPriceDto::getPrice)
+                .containsExactly(tuple("BrandA", 1000));
+        assertThat(snapshot.priceRange(Category.TOP).highest())
+                .extracting(CategoryBrandPriceDto::getBrandName).containsExactly("BrandA");
+        // 상의가 빠진 BrandB는 모든 카테고리를 갖추지 못해 총액 순위에서도 빠진다
+        assertThat(snapshot.brandRanking()).extracting(BrandTotal::brandName).containsExactly("BrandA");
+    }
+
+    @Test
+    @DisplayName("상위 브랜드 목록 - 브랜드마다 한 건씩 가격순으로 유지되고 변경된 카테고리만 다시 계산")
+    void apply_PriceChange_UpdatesTopOffersOfChangedCategory() {
+        // Given: BrandA가 상의를 하나 더 비싸게 등록해도 브랜드당 한 건만 나온다
+        PricingSnapshot before = pricingSnapshotHolder.current();
+        PriceEntry expensiveTop = new PriceEntry(21L, 1L, "BrandA", Category.TOP, 3000, 0L);
+
+        // When
+        pricingSnapshotHolder.apply(Set.of(Category.TOP), List.of(() -> {
+            categoryPriceIndex.put(expensiveTop);
+            brandTotalIndex.put(expensiveTop);
+        }), false);
+        PricingSnapshot after = pricingSnapshotHolder.current();
+
+        // Then
+        assertThat(after.topOffers(Category.TOP, 5).cheapest())
+                .extracting(CategoryBrandPriceDto::getBrandName, CategoryBrandPriceDto::getPrice)
+                .containsExactly(tuple("BrandA", 1000), tuple("BrandB", 2000));
+        assertThat(after.topOffers(Category.TOP, 5).mostExpensive())
+                .extracting(CategoryBrandPriceDto::getBrandName, CategoryBrandPriceDto::getPrice)
+                .containsExactly(tuple("BrandA", 3000), tuple("BrandB", 2000));
+        assertThat(after.topOffers(Category.TOP, 1).cheapest()).hasSize(1);
+        assertThat(after.topOffers(Category.PANTS, 5)).isSameAs(before.topOffers(Category.PANTS, 5));
+    }
+
+    @Test
+    @DisplayName("브랜드 제외 최저가 - 상위 브랜드 목록에서 제외 브랜드를 건너뛴다")
+    void lowestPriceExcluding_SkipsExcludedBrands() {
+        // When
+        List<CategoryBrandPriceDto> result =
+                pricingSnapshotHolder.lowestPriceByAllCategoriesExcluding(BrandExclusions.of(List.of("BrandA")));
+
+        // Then
+        assertThat(result).hasSize(Category.values().length)
+                .extracting(CategoryBrandPriceDto::getBrandName, CategoryBrandPriceDto::getPrice)
+                .containsOnly(tuple("BrandB", 2000));
+        assertThat(pricingSnapshotHolder.lowestPriceByAllCategoriesExcluding(BrandExclusions.of(List.of("BrandA", "BrandB"))))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("브랜드 제외 최저가 - 제외 브랜드가 목록 상한을 모두 차지하면 카테고리 인덱스를 직접 읽는다")
+    void lowestPriceExcluding_ListExhausted_FallsBackToIndex() {
+        // Given: 스냅샷에 카테고리마다 가장 싼 브랜드 하나만 담는다
+        PricingProperties properties = new PricingProperties();
+        properties.setTopOffersMax(1);
+        PricingSnapshotHolder holder = new PricingSnapshotHolder(categoryPriceIndex, brandTotalIndex, eventPublisher, properties);
+        assertThat(holder.current().topOffers(Category.TOP, 1).cheapest())
+                .extracting(CategoryBrandPriceDto::getBrandName).containsExactly("BrandA");
+
+        // When
+        List<CategoryBrandPriceDto> result = holder.lowestPriceByAllCategoriesExcluding(BrandExclusions.of(List.of("BrandA")));
+
+        // Then
+        assertThat(result).hasSize(Category.values().length)
+                .extracting(CategoryBrandPriceDto::getBrandName).containsOnly("BrandB");
+    }
+
+    @Test
+    @DisplayName("브랜드 제외 최저가 브랜드 - 총액 순위에서 제외 브랜드 다음 브랜드를 반환")
+    void lowestTotalBrandExcluding_ReturnsNextRankedBrand() {
+        // When
+        PricingSnapshot snapshot = pricingSnapshotHolder.current();
+
+        // Then
+        assertThat(snapshot.lowestTotalBrandExcluding(BrandExclusions.of(List.of("BrandA"))))
+                .map(BrandTotal::brandName).contains("BrandB");
+        assertThat(snapshot.lowestTotalBrandExcluding(BrandExclusions.of(List.of("BrandA", "BrandB")))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인덱스를 비우면 다음 조회에서 스냅샷을 다시 만든다")
+    void current_AfterIndexInvalidated_RebuildsSnapshot() {
+        // Given
+        PricingSnapshot before = pricingSnapshotHolder.current();
+
+        // When
+        categoryPriceIndex.invalidate();
+        brandTotalIndex.invalidate();
+        PricingSnapshot after = pricingSnapshotHolder.current();
+
+        // Then
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.version()).isGreaterThan(before.version());
+        verify(productRepository, times(4)).findAllPriceEntries();
+    }
+}
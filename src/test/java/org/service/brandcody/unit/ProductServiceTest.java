@@ -11,12 +11,25 @@ import org.service.brandcody.domain.Brand;
 import org.service.brandcody.domain.Category;
 import org.service.brandcody.domain.Product;
 import org.service.brandcody.dto.CategoryBrandPriceDto;
+import org.service.brandcody.dto.CategoryOffers;
+import org.service.brandcody.dto.CategoryPriceRange;
+import org.service.brandcody.dto.ProductView;
+import org.service.brandcody.event.ChangeType;
+import org.service.brandcody.event.ProductChangedEvent;
+import org.service.brandcody.index.PricingSnapshot;
+import org.service.brandcody.index.PricingSnapshotHolder;
+import org.service.brandcody.exception.PreconditionFailedException;
 import org.service.brandcody.repository.BrandRepository;
+import org.service.brandcody.repository.ProductPriceJdbcRepository;
+import org.service.brandcody.repository.ProductPriceJdbcRepository.PriceRow;
 import org.service.brandcody.repository.ProductRepository;
 import org.service.brandcody.service.ProductService;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
@@ -34,6 +47,15 @@ public class ProductServiceTest {
     @Mock
     private BrandRepository brandRepository;
 
+    @Mock
+    private ProductPriceJdbcRepository productPriceJdbcRepository;
+
+    @Mock
+    private PricingSnapshotHolder pricingSnapshotHolder;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ProductService productService;
 
@@ -56,30 +78,32 @@ public class ProductServiceTest {
     @DisplayName("상품 ID로 상품 조회 - 정상 케이스")
     void getProductById_ExistingProduct_ReturnsProduct() {
         // Given
-        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+        ProductView view = new ProductView(1L, 1L, "TestBrand", Category.TOP, 10000, 0L);
+        when(productRepository.findViewById(1L)).thenReturn(Optional.of(view));
 
         // When
-        Product result = productService.getProductById(1L);
+        ProductView result = productService.getProductById(1L);
 
         // Then
         assertThat(result).isNotNull();
-        assertThat(result.getId()).isEqualTo(1L);
-        assertThat(result.getCategory()).isEqualTo(Category.TOP);
-        assertThat(result.getPrice()).isEqualTo(10000);
-        verify(productRepository).findById(1L);
+        assertThat(result.id()).isEqualTo(1L);
+        assertThat(result.brandName()).isEqualTo("TestBrand");
+        assertThat(result.category()).isEqualTo(Category.TOP);
+        assertThat(result.price()).isEqualTo(10000);
+        verify(productRepository).findViewById(1L);
     }
 
     @Test
     @DisplayName("상품 ID로 상품 조회 - 상품이 존재하지 않는 경우")
     void getProductById_NonExistingProduct_ThrowsException() {
         // Given
-        when(productRepository.findById(99L)).thenReturn(Optional.empty());
+        when(productRepository.findViewById(99L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> productService.getProductById(99L))
                 .isInstanceOf(NoSuchElementException.class)
                 .hasMessageContaining("Product not found with id: 99");
-        verify(productRepository).findById(99L);
+        verify(productRepository).findViewById(99L);
     }
 
     @Test
@@ -172,7 +196,7 @@ public class ProductServiceTest {
         updatedProduct.setBrand(testBrand);
 
         when(productRepository.findById(productId)).thenReturn(Optional.of(testProduct));
-        when(productRepository.save(any(Product.class))).thenReturn(updatedProduct);
+        when(productRepository.saveAndFlush(any(Product.class))).thenReturn(updatedProduct);
 
         // When
         Product result = productService.updateProduct(productId, newPrice);
@@ -182,7 +206,7 @@ public class ProductServiceTest {
         assertThat(result.getId()).isEqualTo(productId);
         assertThat(result.getPrice()).isEqualTo(newPrice);
         verify(productRepository).findById(productId);
-        verify(productRepository).save(any(Product.class));
+        verify(productRepository).saveAndFlush(any(Product.class));
     }
 
     @Test
@@ -199,7 +223,7 @@ public class ProductServiceTest {
                 .isInstanceOf(NoSuchElementException.class)
                 .hasMessageContaining("Product not found with id: 99");
         verify(productRepository).findById(productId);
-        verify(productRepository, never()).save(any(Product.class));
+        verify(productRepository, never()).saveAndFlush(any(Product.class));
     }
 
     @Test
@@ -216,7 +240,7 @@ public class ProductServiceTest {
 
         List<Product> singleProductList = List.of(testProduct);
         when(productRepository.findByBrandIdAndCategory(brandId, category)).thenReturn(singleProductList);
-        when(productRepository.save(any(Product.class))).thenReturn(updatedProduct);
+        when(productRepository.saveAndFlush(any(Product.class))).thenReturn(updatedProduct);
 
         // When
         Product result = productService.updateProductByBrandAndCategory(brandId, category, newPrice);
@@ -227,7 +251,7 @@ public class ProductServiceTest {
         assertThat(result.getCategory()).isEqualTo(category);
         assertThat(result.getPrice()).isEqualTo(newPrice);
         verify(productRepository).findByBrandIdAndCategory(brandId, category);
-        verify(productRepository).save(any(Product.class));
+        verify(productRepository).saveAndFlush(any(Product.class));
     }
     
     @Test
@@ -252,7 +276,7 @@ public class ProductServiceTest {
 
         List<Product> multipleProductsList = List.of(cheapestProduct, expensiveProduct);
         when(productRepository.findByBrandIdAndCategory(brandId, category)).thenReturn(multipleProductsList);
-        when(productRepository.save(any(Product.class))).thenReturn(updatedProduct);
+        when(productRepository.saveAndFlush(any(Product.class))).thenReturn(updatedProduct);
 
         // When
         Product result = productService.updateProductByBrandAndCategory(brandId, category, newPrice);
@@ -263,7 +287,7 @@ public class ProductServiceTest {
         assertThat(result.getCategory()).isEqualTo(category);
         assertThat(result.getPrice()).isEqualTo(newPrice);
         verify(productRepository).findByBrandIdAndCategory(brandId, category);
-        verify(productRepository).save(any(Product.class));
+        verify(productRepository).saveAndFlush(any(Product.class));
     }
 
     @Test
@@ -281,7 +305,7 @@ public class ProductServiceTest {
                 .isInstanceOf(NoSuchElementException.class)
                 .hasMessageContaining("Product not found for brand id: 1 and category: PANTS");
         verify(productRepository).findByBrandIdAndCategory(brandId, category);
-        verify(productRepository, never()).save(any(Product.class));
+        verify(productRepository, never()).saveAndFlush(any(Product.class));
     }
 
     @Test
@@ -298,6 +322,7 @@ public class ProductServiceTest {
         // Then
         verify(productRepository).findById(productId);
         verify(productRepository).delete(testProduct);
+        verify(eventPublisher).publishEvent(new ProductChangedEvent(ChangeType.DELETED, 1L, 1L, "TestBrand", Category.TOP, 10000, 0L));
     }
 
     @Test
@@ -330,7 +355,9 @@ public class ProductServiceTest {
                 new CategoryBrandPriceDto(Category.ACCESSORY, "BrandH", 1700)
         );
 
-        when(productRepository.findLowestPriceByCategory()).thenReturn(lowestPriceItems);
+        Map<Category, CategoryPriceRange> ranges = new EnumMap<>(Category.class);
+        lowestPriceItems.forEach(item -> ranges.put(item.getCategory(), new CategoryPriceRange(List.of(item), List.of(item))));
+        when(pricingSnapshotHolder.current()).thenReturn(new PricingSnapshot(1L, ranges, List.of()));
 
         // When
         int result = productService.calculateTotalLowestPriceAcrossCategories();
@@ -338,6 +365,105 @@ public class ProductServiceTest {
         // Then
         int expectedTotal = 9000 + 4800 + 3000 + 8500 + 1800 + 1400 + 1500 + 1700; // 31700
         assertThat(result).isEqualTo(expectedTotal);
-        verify(productRepository).findLowestPriceByCategory();
+        verify(productRepository, never()).findLowestPriceByCategory();
+    }
+
+    @Test
+    @DisplayName("카테고리 상위 브랜드 조회 - 스냅샷 목록을 k개로 잘라 반환")
+    void findTopOffersByCategory_ReturnsFirstKFromSnapshot() {
+        // Given
+        CategoryOffers offers = new CategoryOffers(
+                List.of(new CategoryBrandPriceDto(Category.TOP, "BrandA", 1000),
+                        new CategoryBrandPriceDto(Category.TOP, "BrandB", 2000),
+                        new CategoryBrandPriceDto(Category.TOP, "BrandC", 3000)),
+                List.of(new CategoryBrandPriceDto(Category.TOP, "BrandC", 3000),
+                        new CategoryBrandPriceDto(Category.TOP, "BrandB", 2000),
+                        new CategoryBrandPriceDto(Category.TOP, "BrandA", 1000)));
+        when(pricingSnapshotHolder.topOffersMax()).thenReturn(20);
+        when(pricingSnapshotHolder.current())
+                .thenReturn(new PricingSnapshot(1L, Map.of(), Map.of(Category.TOP, offers), List.of()));
+
+        // When
+        CategoryOffers result = productService.findTopOffersByCategory(Category.TOP, 2);
+
+        // Then
+        assertThat(result.cheapest()).extracting(CategoryBrandPriceDto::getBrandName).containsExactly("BrandA", "BrandB");
+        assertThat(result.mostExpensive()).extracting(CategoryBrandPriceDto::getBrandName).containsExactly("BrandC", "BrandB");
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("카테고리 상위 브랜드 조회 - 허용 범위를 벗어난 k")
+    void findTopOffersByCategory_KOutOfRange_ThrowsException() {
+        // Given
+        when(pricingSnapshotHolder.topOffersMax()).thenReturn(20);
+
+        // When & Then
+        assertThatThrownBy(() -> productService.findTopOffersByCategory(Category.TOP, 21))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("k must be between 1 and 20");
+        assertThatThrownBy(() -> productService.findTopOffersByCategory(Category.TOP, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("원자적 가격 수정 - 엔티티를 읽지 않고 UPDATE 결과로 이벤트 발행")
+    void updatePriceAtomically_ExistingProduct_PublishesEventFromUpdatedRow() {
+        // Given
+        PriceRow row = new PriceRow(1L, 3L, 1L, "TestBrand", Category.TOP, 12000);
+        when(productPriceJdbcRepository.updatePriceAtomically(1L, 12000)).thenReturn(Optional.of(row));
+
+        // When
+        ProductView result = productService.updatePriceAtomically(1L, 12000);
+
+        // Then
+        assertThat(result.price()).isEqualTo(12000);
+        assertThat(result.version()).isEqualTo(3L);
+        verify(productRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(
+                new ProductChangedEvent(ChangeType.UPDATED, 1L, 1L, "TestBrand", Category.TOP, 12000, 3L));
+    }
+
+    @Test
+    @DisplayName("원자적 가격 수정 - 상품이 존재하지 않는 경우")
+    void updatePriceAtomically_NonExistingProduct_ThrowsException() {
+        // Given
+        when(productPriceJdbcRepository.updatePriceAtomically(99L, 12000)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> productService.updatePriceAtomically(99L, 12000))
+                .isInstanceOf(NoSuchElementException.class)
+                .hasMessageContaining("Product not found with id: 99");
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("조건부 가격 수정 - 버전이 다르면 저장하지 않고 예외")
+    void updateProductIfVersionMatches_StaleVersion_ThrowsPreconditionFailed() {
+        // Given
+        testProduct.setVersion(2L);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+
+        // When & Then
+        assertThatThrownBy(() -> productService.updateProductIfVersionMatches(1L, 12000, 1L))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThat(testProduct.getPrice()).isEqualTo(10000);
+        verify(productRepository, never()).saveAndFlush(any(Product.class));
+    }
+
+    @Test
+    @DisplayName("조건부 가격 수정 - 버전이 같으면 저장")
+    void updateProductIfVersionMatches_CurrentVersion_SavesProduct() {
+        // Given
+        testProduct.setVersion(2L);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+        when(productRepository.saveAndFlush(testProduct)).thenReturn(testProduct);
+
+        // When
+        Product result = productService.updateProductIfVersionMatches(1L, 12000, 2L);
+
+        // Then
+        assertThat(result.getPrice()).isEqualTo(12000);
+        verify(eventPublisher).publishEvent(any(ProductChangedEvent.class));
     }
-}
\ No newline at end of file
+}
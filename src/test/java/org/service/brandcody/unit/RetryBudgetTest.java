@@ -0,0 +1,61 @@
+package org.service.brandcody.unit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.service.brandcody.retry.BudgetedRetryPolicy;
+import org.service.brandcody.retry.RetryBudget;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RetryBudgetTest {
+
+    @Test
+    @DisplayName("토큰을 모두 쓰면 거절하고, 시간이 지나면 초당 비율만큼 다시 채워짐")
+    void tryAcquire_RefillsOverTime() {
+        // Given
+        AtomicLong now = new AtomicLong();
+        RetryBudget budget = new RetryBudget(2, 10, now::get);
+
+        // When & Then
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+
+        // 오래 쉬어도 용량 이상으로 쌓이지 않는다
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(budget.availableTokens()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("재시도 회차당 토큰 하나만 쓰고, 예산이 없으면 재시도를 거절")
+    void budgetedPolicy_ConsumesOneTokenPerRetryAndRejectsWhenEmpty() {
+        // Given
+        RetryBudget budget = new RetryBudget(1, 0);
+        BudgetedRetryPolicy policy = new BudgetedRetryPolicy(new SimpleRetryPolicy(3), budget);
+        RetryContext context = policy.open(null);
+        ObjectOptimisticLockingFailureException failure = new ObjectOptimisticLockingFailureException("Product", 1L);
+
+        // When & Then
+        assertThat(policy.canRetry(context)).isTrue();
+
+        policy.registerThrowable(context, failure);
+        // 백오프 전과 다음 시도 전에 두 번 확인해도 토큰은 한 번만 쓴다
+        assertThat(policy.canRetry(context)).isTrue();
+        assertThat(policy.canRetry(context)).isTrue();
+        assertThat(budget.availableTokens()).isZero();
+
+        policy.registerThrowable(context, failure);
+        assertThat(policy.canRetry(context)).isFalse();
+        assertThat(context.hasAttribute(BudgetedRetryPolicy.BUDGET_REJECTED)).isTrue();
+    }
+}
@@ -0,0 +1,87 @@
+package org.service.brandcody.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.service.brandcody.metrics.RetryMetricsListener;
+import org.service.brandcody.retry.BudgetedRetryPolicy;
+import org.service.brandcody.service.ProductService;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.interceptor.MethodInvocationRetryCallback;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RetryMetricsListenerTest {
+
+    @Mock
+    private RetryContext context;
+
+    @Mock
+    private MethodInvocationRetryCallback<Object, Throwable> callback;
+
+    @Mock
+    private MethodInvocation invocation;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RetryMetricsListener listener;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new RetryMetricsListener(meterRegistry);
+        when(callback.getInvocation()).thenReturn(invocation);
+        when(invocation.getMethod()).thenReturn(ProductService.class.getMethod("deleteProduct", Long.class));
+    }
+
+    @Test
+    @DisplayName("낙관적 락 실패 후 재시도 성공 - 실패 시도와 복구가 메서드별로 집계됨")
+    void onErrorThenClose_RecordsFailedAttemptsAndRecovery() {
+        // Given
+        when(context.getRetryCount()).thenReturn(2);
+        ObjectOptimisticLockingFailureException failure = new ObjectOptimisticLockingFailureException("Product", 1L);
+
+        // When
+        listener.onError(context, callback, failure);
+        listener.onError(context, callback, failure);
+        listener.close(context, callback, null);
+
+        // Then
+        assertThat(meterRegistry.get("brandcody.retry.failed.attempts")
+                .tag("method", "ProductService.deleteProduct")
+                .tag("exception", "ObjectOptimisticLockingFailureException")
+                .counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("brandcody.retry.completions")
+                .tag("outcome", "recovered")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("재시도 예산 부족으로 중단 - 시도 횟수와 예산 소진 결과가 집계됨")
+    void budgetRejected_RecordsBudgetExhaustedOutcome() {
+        // Given
+        when(context.getRetryCount()).thenReturn(1);
+        when(context.hasAttribute(BudgetedRetryPolicy.BUDGET_REJECTED)).thenReturn(true);
+        ObjectOptimisticLockingFailureException failure = new ObjectOptimisticLockingFailureException("Product", 1L);
+
+        // When
+        listener.onError(context, callback, failure);
+        listener.close(context, callback, failure);
+
+        // Then
+        assertThat(meterRegistry.get("brandcody.retry.attempts")
+                .tag("method", "ProductService.deleteProduct")
+                .tag("outcome", "failure")
+                .counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("brandcody.retry.completions")
+                .tag("outcome", "budget_exhausted")
+                .counter().count()).isEqualTo(1.0);
+    }
+}
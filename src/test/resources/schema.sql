@@ -1,5 +1,9 @@
+DROP TABLE IF EXISTS catalog_changes;
 DROP TABLE IF EXISTS products;
 DROP TABLE IF EXISTS brands;
+DROP SEQUENCE IF EXISTS product_seq;
+
+CREATE SEQUENCE product_seq START WITH 1000 INCREMENT BY 100;
 
 CREATE TABLE brands (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -14,4 +18,18 @@ CREATE TABLE products (
     price INT NOT NULL,
     version BIGINT DEFAULT 0 NOT NULL,
     FOREIGN KEY (brand_id) REFERENCES brands(id)
-);
\ No newline at end of file
+);
+
+CREATE TABLE catalog_changes (
+    seq BIGINT PRIMARY KEY,
+    entity_type VARCHAR(10) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    change_type VARCHAR(10) NOT NULL,
+    brand_id BIGINT,
+    brand_name VARCHAR(255),
+    category VARCHAR(30),
+    price INT,
+    changed_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_catalog_change_changed_at ON catalog_changes (changed_at);